@@ -0,0 +1,79 @@
+package dev.steyon.translateMCPlugin.proxy;
+
+import com.google.inject.Inject;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.PluginMessageEvent;
+import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
+import com.velocitypowered.api.plugin.Plugin;
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.proxy.ServerConnection;
+import com.velocitypowered.api.proxy.messages.MinecraftChannelIdentifier;
+import com.velocitypowered.api.proxy.server.RegisteredServer;
+import dev.steyon.translateMCPlugin.sync.protocol.LanguageSyncCodec;
+import dev.steyon.translateMCPlugin.sync.protocol.LanguageSyncHub;
+import dev.steyon.translateMCPlugin.sync.protocol.SyncTarget;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Plugin(
+        id = "translatemc-proxy",
+        name = "TranslateMC-Proxy",
+        description = "Shares TranslateMC language selections between servers",
+        authors = {"TinyBrickBoy"}
+)
+public class TranslateMCProxy {
+    private static final MinecraftChannelIdentifier CHANNEL = MinecraftChannelIdentifier.from(LanguageSyncCodec.CHANNEL);
+
+    private final ProxyServer server;
+    private final Logger logger;
+    private final LanguageSyncHub hub;
+
+    @Inject
+    public TranslateMCProxy(ProxyServer server, Logger logger) {
+        this.server = server;
+        this.logger = logger;
+        this.hub = new LanguageSyncHub();
+    }
+
+    @Subscribe
+    public void onProxyInitialize(ProxyInitializeEvent event) {
+        server.getChannelRegistrar().register(CHANNEL);
+        logger.info("Registered language sync channel: " + LanguageSyncCodec.CHANNEL);
+    }
+
+    @Subscribe
+    public void onPluginMessage(PluginMessageEvent event) {
+        if (!CHANNEL.equals(event.getIdentifier())) {
+            return;
+        }
+
+        // Never forward sync messages, and only trust the ones coming from backends
+        event.setResult(PluginMessageEvent.ForwardResult.handled());
+        if (!(event.getSource() instanceof ServerConnection connection)) {
+            return;
+        }
+
+        List<ServerTarget> targets = new ArrayList<>();
+        for (RegisteredServer registered : server.getAllServers()) {
+            targets.add(new ServerTarget(registered));
+        }
+
+        try {
+            hub.handle(event.getData(), new ServerTarget(connection.getServer()), targets);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Received invalid language sync message from " + connection.getServerInfo().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adapts a backend server to the sync hub
+     */
+    private record ServerTarget(RegisteredServer server) implements SyncTarget {
+        @Override
+        public void send(byte[] data) {
+            server.sendPluginMessage(CHANNEL, data);
+        }
+    }
+}
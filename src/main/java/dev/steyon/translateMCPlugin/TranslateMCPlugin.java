@@ -1,10 +1,15 @@
 package dev.steyon.translateMCPlugin;
 
 import dev.steyon.translateMCPlugin.command.TranslateCommand;
+import dev.steyon.translateMCPlugin.display.DisplayManager;
 import dev.steyon.translateMCPlugin.gui.LanguageGUI;
+import dev.steyon.translateMCPlugin.gui.SkullTextureCache;
+import dev.steyon.translateMCPlugin.item.TranslatableItems;
 import dev.steyon.translateMCPlugin.listener.PlayerJoinListener;
 import dev.steyon.translateMCPlugin.manager.TranslationManager;
 import dev.steyon.translateMCPlugin.placeholder.PlaceholderAPIExpansion;
+import dev.steyon.translateMCPlugin.profiler.TickProfiler;
+import dev.steyon.translateMCPlugin.sync.LanguageSyncService;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -12,6 +17,11 @@ import org.bukkit.plugin.java.JavaPlugin;
 public final class TranslateMCPlugin extends JavaPlugin {
     private static TranslateMCPlugin instance;
     private TranslationManager translationManager;
+    private LanguageSyncService languageSync;
+    private DisplayManager displayManager;
+    private TickProfiler profiler;
+    private TranslatableItems translatableItems;
+    private SkullTextureCache skullTextures;
 
     @Override
     public void onEnable() {
@@ -20,10 +30,34 @@ public final class TranslateMCPlugin extends JavaPlugin {
         // Save default config
         saveDefaultConfig();
 
+        // Initialize main-thread profiler
+        profiler = new TickProfiler(this);
+        getServer().getPluginManager().registerEvents(profiler, this);
+
         // Initialize Translation Manager
         getLogger().info("Initializing Translation Manager...");
         translationManager = new TranslationManager(this);
 
+        // Resolve language head textures now and after every reload
+        skullTextures = new SkullTextureCache(this);
+        translationManager.addReloadListener(skullTextures::refreshAsync);
+        skullTextures.refreshAsync();
+
+        // Initialize translated displays
+        displayManager = new DisplayManager(this);
+        displayManager.start();
+
+        // Initialize translatable items
+        translatableItems = new TranslatableItems(this);
+
+        // Register cross-server language sync
+        if (getConfig().getBoolean("sync.enabled", false)) {
+            getLogger().info("Enabling cross-server language sync...");
+            languageSync = new LanguageSyncService(this);
+            languageSync.register();
+            translationManager.setLanguageSync(languageSync);
+        }
+
         // Register PlaceholderAPI expansion
         if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
             getLogger().info("Registering PlaceholderAPI expansion...");
@@ -46,6 +80,7 @@ public final class TranslateMCPlugin extends JavaPlugin {
         // Register listeners
         getServer().getPluginManager().registerEvents(new LanguageGUI(), this);
         getServer().getPluginManager().registerEvents(new PlayerJoinListener(this), this);
+        getServer().getPluginManager().registerEvents(displayManager, this);
 
         getLogger().info("TranslateMC Plugin has been enabled!");
         getLogger().info("Available languages: " + String.join(", ", translationManager.getAvailableLanguageCodes()));
@@ -53,6 +88,13 @@ public final class TranslateMCPlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        if (languageSync != null) {
+            languageSync.unregister();
+        }
+        if (translationManager != null) {
+            translationManager.shutdown();
+        }
+
         getLogger().info("TranslateMC Plugin has been disabled!");
     }
 
@@ -69,4 +111,32 @@ public final class TranslateMCPlugin extends JavaPlugin {
     public TranslationManager getTranslationManager() {
         return translationManager;
     }
+
+    /**
+     * Gets the cache of resolved language head textures
+     */
+    public SkullTextureCache getSkullTextures() {
+        return skullTextures;
+    }
+
+    /**
+     * Gets the API for items with translated names and lore
+     */
+    public TranslatableItems getTranslatableItems() {
+        return translatableItems;
+    }
+
+    /**
+     * Gets the main-thread profiler
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the manager for translated boss bars, sidebars and action bars
+     */
+    public DisplayManager getDisplayManager() {
+        return displayManager;
+    }
 }
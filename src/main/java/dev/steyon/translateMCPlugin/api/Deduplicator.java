@@ -0,0 +1,71 @@
+package dev.steyon.translateMCPlugin.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares equal strings and translations while a response is parsed.
+ * Language codes and statuses repeat for every key, and many values are identical across keys,
+ * so keeping a single instance of each saves a large part of the heap used by a catalog.
+ * Keys are unique within a response and are not shared, so they don't take up space here.
+ * Thread-safe, so shards parsed in parallel can share one instance.
+ */
+final class Deduplicator {
+    // Rough heap cost of a String: object header and fields plus the backing array header
+    private static final int STRING_OVERHEAD = 40;
+    private static final int TRANSLATION_SIZE = 24;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, TranslationAPI.Translation>> translations = new ConcurrentHashMap<>();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong savedBytes = new AtomicLong();
+
+    /**
+     * Gets the shared instance of a string
+     */
+    String string(String value) {
+        String existing = strings.putIfAbsent(value, value);
+        if (existing == null) {
+            return value;
+        }
+        duplicates.incrementAndGet();
+        savedBytes.addAndGet(STRING_OVERHEAD + align(value.length()));
+        return existing;
+    }
+
+    /**
+     * Gets the shared translation with the given value and status
+     */
+    TranslationAPI.Translation translation(String value, String status) {
+        String sharedValue = string(value);
+        String sharedStatus = string(status);
+
+        Map<String, TranslationAPI.Translation> byValue = translations.computeIfAbsent(sharedStatus, s -> new ConcurrentHashMap<>());
+        TranslationAPI.Translation created = new TranslationAPI.Translation(sharedValue, sharedStatus);
+        TranslationAPI.Translation existing = byValue.putIfAbsent(sharedValue, created);
+        if (existing == null) {
+            return created;
+        }
+        savedBytes.addAndGet(TRANSLATION_SIZE);
+        return existing;
+    }
+
+    /**
+     * Gets the number of duplicate strings that were replaced by a shared instance
+     */
+    long getDuplicates() {
+        return duplicates.get();
+    }
+
+    /**
+     * Gets the estimated heap saved by sharing instances, in bytes
+     */
+    long getSavedBytes() {
+        return savedBytes.get();
+    }
+
+    private static int align(int length) {
+        return (length + 7) & ~7;
+    }
+}
@@ -6,13 +6,24 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 public class TranslationAPI {
@@ -32,87 +43,291 @@ public class TranslationAPI {
      */
     public APIResponse fetchTranslations() {
         try {
-            URL url = new URL(baseUrl + "/keys");
+            String body = request("/keys");
+            if (body == null) {
+                return new APIResponse(new HashMap<>(), new ArrayList<>());
+            }
+
+            return parseAPIResponse(body);
+        } catch (Exception e) {
+            logger.severe("Failed to fetch translations from API: " + e.getMessage());
+            return new APIResponse(new HashMap<>(), new ArrayList<>());
+        }
+    }
+
+    /**
+     * Fetches the catalog as several shards concurrently on virtual threads and merges them.
+     * A shard that fails keeps its data from the previous response instead of failing the whole fetch.
+     * If every shard fails, or there is no previous data to keep, the fetch fails as a whole.
+     * @param shards the shards to fetch
+     * @param concurrency maximum number of shards fetched at the same time
+     * @param previous supplies the previous response; only called if a shard failed
+     * @return APIResponse containing the merged keys and languages, or an empty one if the fetch failed
+     */
+    public APIResponse fetchTranslations(List<Shard> shards, int concurrency, Supplier<APIResponse> previous) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        Deduplicator deduplicator = new Deduplicator();
+        List<Future<APIResponse>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Shard shard : shards) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        String body = request("/keys?" + shard.getQuery());
+                        return body != null ? parse(body, deduplicator) : null;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<APIResponse> responses = new ArrayList<>(shards.size());
+        int failed = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            APIResponse response;
+            try {
+                response = futures.get(i).get();
+            } catch (Exception e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                logger.warning("Failed to fetch shard " + shards.get(i).getQuery() + ": " + cause.getMessage());
+                response = null;
+            }
+            if (response == null) {
+                failed++;
+            }
+            responses.add(response);
+        }
+
+        // A response made only of retained data is not a refresh, and must not replace a snapshot
+        if (failed == shards.size()) {
+            logger.severe("Failed to fetch translations from API: all " + shards.size() + " shards failed");
+            return new APIResponse(new HashMap<>(), new ArrayList<>());
+        }
+
+        APIResponse previousResponse = null;
+        if (failed > 0) {
+            previousResponse = previous != null ? previous.get() : null;
+            if (previousResponse == null || previousResponse.getTranslations().isEmpty()) {
+                logger.severe("Failed to fetch translations from API: " + failed + " of " + shards.size() +
+                    " shards failed and there are no previous translations to keep");
+                return new APIResponse(new HashMap<>(), new ArrayList<>());
+            }
+        }
+
+        Map<String, Map<String, Translation>> translations = new HashMap<>();
+        Map<String, Language> languages = new LinkedHashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            APIResponse response = responses.get(i);
+            if (response == null) {
+                response = shards.get(i).retain(previousResponse);
+            }
+
+            for (Map.Entry<String, Map<String, Translation>> entry : response.getTranslations().entrySet()) {
+                translations.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).putAll(entry.getValue());
+            }
+            for (Language language : response.getLanguages()) {
+                languages.putIfAbsent(language.getCode(), language);
+            }
+        }
+
+        if (failed > 0) {
+            logger.warning(failed + " of " + shards.size() + " shards failed, kept their previous translations");
+        }
+        return new APIResponse(translations, new ArrayList<>(languages.values()),
+            deduplicator.getDuplicates(), deduplicator.getSavedBytes());
+    }
+
+    /**
+     * Performs a GET request against the API
+     * @return the response body, or null if the API returned an error status code
+     */
+    private String request(String path) throws IOException {
+        URL url = new URL(baseUrl + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("GET");
+        if (apiToken != null && !apiToken.isEmpty()) {
+            connection.setRequestProperty("X-API-Key", apiToken);
+        }
+        connection.setConnectTimeout(5000);
+        connection.setReadTimeout(5000);
+
+        int responseCode = connection.getResponseCode();
+        if (responseCode != 200) {
+            logger.warning("API returned status code: " + responseCode);
+            return null;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
+            StringBuilder response = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                response.append(line);
+            }
+            return response.toString();
+        }
+    }
+
+    /**
+     * Sends a batch of missing key reports to the given endpoint
+     * @param endpoint the full endpoint URL
+     * @param jsonBody the JSON request body
+     * @return true if the API accepted the batch
+     */
+    public boolean reportMissingKeys(String endpoint, String jsonBody) {
+        try {
+            URL url = new URL(endpoint);
             HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
             if (apiToken != null && !apiToken.isEmpty()) {
                 connection.setRequestProperty("X-API-Key", apiToken);
             }
             connection.setConnectTimeout(5000);
             connection.setReadTimeout(5000);
 
-            int responseCode = connection.getResponseCode();
-            if (responseCode == 200) {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-                StringBuilder response = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
-                }
-                reader.close();
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(jsonBody.getBytes(StandardCharsets.UTF_8));
+            }
 
-                return parseAPIResponse(response.toString());
-            } else {
-                logger.warning("API returned status code: " + responseCode);
-                return new APIResponse(new HashMap<>(), new ArrayList<>());
+            int responseCode = connection.getResponseCode();
+            if (responseCode >= 200 && responseCode < 300) {
+                return true;
             }
+            logger.warning("Missing key report returned status code: " + responseCode);
+            return false;
         } catch (Exception e) {
-            logger.severe("Failed to fetch translations from API: " + e.getMessage());
-            return new APIResponse(new HashMap<>(), new ArrayList<>());
+            logger.warning("Failed to send missing key report: " + e.getMessage());
+            return false;
         }
     }
 
+    /**
+     * Gets the base URL of the API
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
     /**
      * Parses the JSON response from the API
      */
-    private APIResponse parseAPIResponse(String jsonString) {
+    APIResponse parseAPIResponse(String jsonString) {
         try {
-            JsonObject json = JsonParser.parseString(jsonString).getAsJsonObject();
+            Deduplicator deduplicator = new Deduplicator();
+            APIResponse response = parse(jsonString, deduplicator);
+            return new APIResponse(response.getTranslations(), response.getLanguages(),
+                deduplicator.getDuplicates(), deduplicator.getSavedBytes());
+        } catch (Exception e) {
+            logger.severe("Failed to parse API response: " + e.getMessage());
+            return new APIResponse(new HashMap<>(), new ArrayList<>());
+        }
+    }
 
-            // Parse keys and translations
-            Map<String, Map<String, Translation>> translations = new HashMap<>();
-            JsonArray keys = json.getAsJsonArray("keys");
-
-            for (JsonElement keyElement : keys) {
-                JsonObject keyObj = keyElement.getAsJsonObject();
-                String key = keyObj.get("key").getAsString();
-                JsonObject translationsObj = keyObj.getAsJsonObject("translations");
-
-                Map<String, Translation> langTranslations = new HashMap<>();
-                for (String lang : translationsObj.keySet()) {
-                    JsonObject translationObj = translationsObj.getAsJsonObject(lang);
-                    String value = translationObj.get("value").getAsString();
-                    String status = translationObj.get("status").getAsString();
-
-                    // Only add approved translations or non-empty values
-                    if ("approved".equals(status) || !value.isEmpty()) {
-                        langTranslations.put(lang, new Translation(value, status));
-                    }
+    /**
+     * Parses the JSON response from the API, throwing if it is malformed.
+     * Repeated strings and translations are shared through the deduplicator.
+     */
+    private APIResponse parse(String jsonString, Deduplicator deduplicator) {
+        JsonObject json = JsonParser.parseString(jsonString).getAsJsonObject();
+
+        // Parse keys and translations
+        Map<String, Map<String, Translation>> translations = new HashMap<>();
+        JsonArray keys = json.getAsJsonArray("keys");
+
+        for (JsonElement keyElement : keys) {
+            JsonObject keyObj = keyElement.getAsJsonObject();
+            // Keys are unique within a response, so sharing them would only fill the deduplicator
+            String key = keyObj.get("key").getAsString();
+            JsonObject translationsObj = keyObj.getAsJsonObject("translations");
+
+            Map<String, Translation> langTranslations = new HashMap<>();
+            for (String lang : translationsObj.keySet()) {
+                JsonObject translationObj = translationsObj.getAsJsonObject(lang);
+                String value = translationObj.get("value").getAsString();
+                String status = translationObj.get("status").getAsString();
+
+                // Only add approved translations or non-empty values
+                if ("approved".equals(status) || !value.isEmpty()) {
+                    langTranslations.put(deduplicator.string(lang), deduplicator.translation(value, status));
                 }
-
-                translations.put(key, langTranslations);
             }
 
-            // Parse languages
-            List<Language> languages = new ArrayList<>();
-            JsonArray languagesArray = json.getAsJsonArray("languages");
+            translations.put(key, langTranslations);
+        }
+
+        // Parse languages
+        List<Language> languages = new ArrayList<>();
+        JsonArray languagesArray = json.getAsJsonArray("languages");
+
+        for (JsonElement langElement : languagesArray) {
+            JsonObject langObj = langElement.getAsJsonObject();
+            String code = deduplicator.string(langObj.get("code").getAsString());
+            String name = langObj.get("name").getAsString();
+            boolean isSource = langObj.get("is_source").getAsInt() == 1;
+            String minecraftHead = langObj.has("minecraft_head") && !langObj.get("minecraft_head").isJsonNull()
+                ? langObj.get("minecraft_head").getAsString()
+                : null;
+
+            languages.add(new Language(code, name, isSource, minecraftHead));
+        }
+
+        return new APIResponse(translations, languages);
+    }
+
+    /**
+     * Part of the catalog that can be fetched on its own
+     */
+    public static class Shard {
+        private final String query;
+        private final String language;
+        private final String namespace;
+
+        private Shard(String query, String language, String namespace) {
+            this.query = query;
+            this.language = language;
+            this.namespace = namespace;
+        }
+
+        /**
+         * A shard containing all keys translated into one language
+         */
+        public static Shard language(String languageCode) {
+            return new Shard("language=" + URLEncoder.encode(languageCode, StandardCharsets.UTF_8), languageCode, null);
+        }
 
-            for (JsonElement langElement : languagesArray) {
-                JsonObject langObj = langElement.getAsJsonObject();
-                String code = langObj.get("code").getAsString();
-                String name = langObj.get("name").getAsString();
-                boolean isSource = langObj.get("is_source").getAsInt() == 1;
-                String minecraftHead = langObj.has("minecraft_head") && !langObj.get("minecraft_head").isJsonNull()
-                    ? langObj.get("minecraft_head").getAsString()
-                    : null;
+        /**
+         * A shard containing all keys starting with a namespace prefix, e.g. "shop."
+         */
+        public static Shard namespace(String prefix) {
+            return new Shard("prefix=" + URLEncoder.encode(prefix, StandardCharsets.UTF_8), null, prefix);
+        }
+
+        public String getQuery() {
+            return query;
+        }
 
-                languages.add(new Language(code, name, isSource, minecraftHead));
+        /**
+         * Extracts the data belonging to this shard from a previous response
+         */
+        APIResponse retain(APIResponse previous) {
+            Map<String, Map<String, Translation>> translations = new HashMap<>();
+            if (previous == null) {
+                return new APIResponse(translations, new ArrayList<>());
             }
 
-            return new APIResponse(translations, languages);
-        } catch (Exception e) {
-            logger.severe("Failed to parse API response: " + e.getMessage());
-            return new APIResponse(new HashMap<>(), new ArrayList<>());
+            for (Map.Entry<String, Map<String, Translation>> entry : previous.getTranslations().entrySet()) {
+                if (namespace != null && entry.getKey().startsWith(namespace)) {
+                    translations.put(entry.getKey(), new HashMap<>(entry.getValue()));
+                } else if (language != null && entry.getValue().containsKey(language)) {
+                    Map<String, Translation> single = new HashMap<>();
+                    single.put(language, entry.getValue().get(language));
+                    translations.put(entry.getKey(), single);
+                }
+            }
+            return new APIResponse(translations, previous.getLanguages());
         }
     }
 
@@ -122,10 +337,19 @@ public class TranslationAPI {
     public static class APIResponse {
         private final Map<String, Map<String, Translation>> translations;
         private final List<Language> languages;
+        private final long deduplicatedStrings;
+        private final long deduplicatedBytes;
 
         public APIResponse(Map<String, Map<String, Translation>> translations, List<Language> languages) {
+            this(translations, languages, 0, 0);
+        }
+
+        public APIResponse(Map<String, Map<String, Translation>> translations, List<Language> languages,
+                           long deduplicatedStrings, long deduplicatedBytes) {
             this.translations = translations;
             this.languages = languages;
+            this.deduplicatedStrings = deduplicatedStrings;
+            this.deduplicatedBytes = deduplicatedBytes;
         }
 
         public Map<String, Map<String, Translation>> getTranslations() {
@@ -135,6 +359,20 @@ public class TranslationAPI {
         public List<Language> getLanguages() {
             return languages;
         }
+
+        /**
+         * Gets the number of duplicate strings that were shared while parsing
+         */
+        public long getDeduplicatedStrings() {
+            return deduplicatedStrings;
+        }
+
+        /**
+         * Gets the estimated heap saved by sharing strings and translations, in bytes
+         */
+        public long getDeduplicatedBytes() {
+            return deduplicatedBytes;
+        }
     }
 
     /**
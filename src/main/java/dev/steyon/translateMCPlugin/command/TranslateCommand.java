@@ -2,6 +2,10 @@ package dev.steyon.translateMCPlugin.command;
 
 import dev.steyon.translateMCPlugin.TranslateMCPlugin;
 import dev.steyon.translateMCPlugin.gui.LanguageGUI;
+import dev.steyon.translateMCPlugin.manager.TranslationManager;
+import dev.steyon.translateMCPlugin.profiler.ProfilerSection;
+import dev.steyon.translateMCPlugin.profiler.TickProfiler;
+import dev.steyon.translateMCPlugin.telemetry.MissingKeyTracker;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -11,8 +15,9 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 public class TranslateCommand implements CommandExecutor, TabCompleter {
     private final TranslateMCPlugin plugin;
@@ -23,6 +28,15 @@ public class TranslateCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
+        long start = plugin.getProfiler().start();
+        try {
+            return execute(sender, args);
+        } finally {
+            plugin.getProfiler().stop(ProfilerSection.COMMAND, start);
+        }
+    }
+
+    private boolean execute(CommandSender sender, String[] args) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(ChatColor.RED + "This command can only be used by players!");
             return true;
@@ -38,11 +52,34 @@ public class TranslateCommand implements CommandExecutor, TabCompleter {
             }
 
             plugin.reloadConfig();
+            plugin.getProfiler().reload();
             plugin.getTranslationManager().loadTranslations();
             player.sendMessage(ChatColor.GREEN + "Configuration reloaded successfully!");
             return true;
         }
 
+        // Handle missing subcommand
+        if (args.length > 0 && args[0].equalsIgnoreCase("missing")) {
+            if (!player.hasPermission("translatemc.admin.missing")) {
+                player.sendMessage(ChatColor.RED + "You don't have permission to use this command!");
+                return true;
+            }
+
+            showMissingKeys(player);
+            return true;
+        }
+
+        // Handle profile subcommand
+        if (args.length > 0 && args[0].equalsIgnoreCase("profile")) {
+            if (!player.hasPermission("translatemc.admin.profile")) {
+                player.sendMessage(ChatColor.RED + "You don't have permission to use this command!");
+                return true;
+            }
+
+            showProfile(player, args.length > 1 ? args[1] : null);
+            return true;
+        }
+
         // If no arguments, show GUI
         if (args.length == 0) {
             LanguageGUI.openLanguageSelector(player, plugin);
@@ -68,24 +105,100 @@ public class TranslateCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * Shows the most frequently missing translation keys
+     */
+    private void showMissingKeys(Player player) {
+        MissingKeyTracker tracker = plugin.getTranslationManager().getMissingKeyTracker();
+        if (tracker == null) {
+            player.sendMessage(ChatColor.RED + "Missing key telemetry is disabled!");
+            return;
+        }
+
+        List<MissingKeyTracker.MissingKey> misses = tracker.getTopMisses();
+        player.sendMessage(ChatColor.GOLD + "Missing translations " + ChatColor.GRAY + "(" +
+            tracker.getTotalMisses() + " misses, " + tracker.getTotalFallbacks() + " fallbacks)");
+
+        if (misses.isEmpty()) {
+            player.sendMessage(ChatColor.GREEN + "No missing translations recorded.");
+            return;
+        }
+
+        for (int i = 0; i < Math.min(10, misses.size()); i++) {
+            MissingKeyTracker.MissingKey miss = misses.get(i);
+            ChatColor kindColor = miss.getKind() == MissingKeyTracker.Kind.MISSING ? ChatColor.RED : ChatColor.YELLOW;
+            player.sendMessage(ChatColor.GRAY + "" + (i + 1) + ". " + ChatColor.WHITE + miss.getKey() +
+                ChatColor.GRAY + " [" + miss.getLanguage() + "] " + kindColor + miss.getKind().name().toLowerCase(Locale.ROOT) +
+                ChatColor.GRAY + " x" + miss.getCount());
+        }
+    }
+
+    /**
+     * Shows the profiler report, or turns the profiler on or off
+     */
+    private void showProfile(Player player, String action) {
+        TickProfiler profiler = plugin.getProfiler();
+        if ("on".equalsIgnoreCase(action) || "off".equalsIgnoreCase(action)) {
+            profiler.setEnabled("on".equalsIgnoreCase(action));
+            player.sendMessage(ChatColor.GREEN + "Profiler " + (profiler.isEnabled() ? "enabled" : "disabled") + "!");
+            return;
+        }
+
+        if (!profiler.isEnabled()) {
+            player.sendMessage(ChatColor.RED + "The profiler is disabled! Use /translate profile on");
+            return;
+        }
+
+        List<String> report = profiler.getReport();
+        if (report.isEmpty()) {
+            player.sendMessage(ChatColor.YELLOW + "No ticks recorded yet.");
+            return;
+        }
+
+        player.sendMessage(ChatColor.GOLD + report.get(0));
+        for (String line : report.subList(1, report.size())) {
+            player.sendMessage(ChatColor.GRAY + "- " + ChatColor.WHITE + line);
+        }
+        TranslationManager manager = plugin.getTranslationManager();
+        player.sendMessage(ChatColor.GRAY + "Last refresh took " + manager.getLastRefreshDuration() + "ms, " +
+            (manager.isServingSnapshot() ? "values served from the snapshot"
+                : "deduplication saved ~" + manager.getDeduplicatedBytes() / 1024 + " KB"));
+    }
+
     @Override
     public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String label, @NotNull String[] args) {
-        List<String> completions = new ArrayList<>();
+        long start = plugin.getProfiler().start();
+        try {
+            return complete(sender, args);
+        } finally {
+            plugin.getProfiler().stop(ProfilerSection.TAB_COMPLETE, start);
+        }
+    }
+
+    private List<String> complete(CommandSender sender, String[] args) {
+        if (args.length != 1) {
+            return Collections.emptyList();
+        }
 
-        if (args.length == 1) {
-            // Add language codes
-            completions.addAll(plugin.getTranslationManager().getAvailableLanguageCodes());
+        // Language codes matching the current input, straight from the prefix index
+        String input = args[0].toLowerCase();
+        List<String> languageCodes = plugin.getTranslationManager().getLanguageRegistry().getCodesStartingWith(input);
+        List<String> completions = new ArrayList<>(languageCodes.size() + 3);
+        completions.addAll(languageCodes);
 
-            // Add reload for admins
-            if (sender.hasPermission("translatemc.admin.reload")) {
-                completions.add("reload");
-            }
+        // Add reload for admins
+        if (sender.hasPermission("translatemc.admin.reload") && "reload".startsWith(input)) {
+            completions.add("reload");
+        }
+
+        // Add missing for admins
+        if (sender.hasPermission("translatemc.admin.missing") && "missing".startsWith(input)) {
+            completions.add("missing");
+        }
 
-            // Filter by current input
-            String input = args[0].toLowerCase();
-            return completions.stream()
-                .filter(s -> s.toLowerCase().startsWith(input))
-                .collect(Collectors.toList());
+        // Add profile for admins
+        if (sender.hasPermission("translatemc.admin.profile") && "profile".startsWith(input)) {
+            completions.add("profile");
         }
 
         return completions;
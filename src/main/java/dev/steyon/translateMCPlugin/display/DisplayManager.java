@@ -0,0 +1,79 @@
+package dev.steyon.translateMCPlugin.display;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import dev.steyon.translateMCPlugin.manager.LanguageChangeListener;
+import dev.steyon.translateMCPlugin.profiler.ProfilerSection;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps all translated displays up to date: moves viewers when their language changes,
+ * forgets them when they quit and re-renders after a new translation snapshot was loaded
+ */
+public class DisplayManager implements Listener, LanguageChangeListener {
+    private final TranslateMCPlugin plugin;
+    private final List<TranslatedDisplay<?>> displays = new CopyOnWriteArrayList<>();
+
+    public DisplayManager(TranslateMCPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the task that re-renders displays after translations were reloaded
+     */
+    public void start() {
+        plugin.getTranslationManager().addLanguageChangeListener(this);
+
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                long start = plugin.getProfiler().start();
+                long version = plugin.getTranslationManager().getSnapshotVersion();
+                for (TranslatedDisplay<?> display : displays) {
+                    display.refresh(version);
+                }
+                plugin.getProfiler().stop(ProfilerSection.DISPLAY_TASK, start);
+            }
+        }.runTaskTimer(plugin, 20L, 20L);
+    }
+
+    void register(TranslatedDisplay<?> display) {
+        displays.add(display);
+    }
+
+    void unregister(TranslatedDisplay<?> display) {
+        displays.remove(display);
+    }
+
+    @Override
+    public void onLanguageChange(UUID playerUUID, String oldLanguage, String newLanguage) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(plugin, () -> onLanguageChange(playerUUID, oldLanguage, newLanguage));
+            return;
+        }
+
+        long start = plugin.getProfiler().start();
+        for (TranslatedDisplay<?> display : displays) {
+            display.onLanguageChange(playerUUID, newLanguage);
+        }
+        plugin.getProfiler().stop(ProfilerSection.LANGUAGE_CHANGE, start);
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        long start = plugin.getProfiler().start();
+        Player player = event.getPlayer();
+        for (TranslatedDisplay<?> display : displays) {
+            display.onQuit(player);
+        }
+        plugin.getProfiler().stop(ProfilerSection.QUIT_EVENT, start);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.steyon.translateMCPlugin.display;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Action bar whose text is a translation key, rendered once per language.
+ * Action bars fade out on the client, so callers resend them with {@link #send()}.
+ */
+public class TranslatedActionBar extends TranslatedDisplay<TranslatedActionBar.Rendered> {
+    private final String key;
+    private Object[] args;
+
+    public TranslatedActionBar(TranslateMCPlugin plugin, String key, Object... args) {
+        super(plugin);
+        this.key = key;
+        this.args = args.clone();
+    }
+
+    /**
+     * Sets the arguments for the text; only re-renders if they changed
+     */
+    public void setArguments(Object... args) {
+        if (!Arrays.equals(this.args, args)) {
+            this.args = args.clone();
+            invalidate();
+        }
+    }
+
+    /**
+     * Sends the rendered text to every viewer
+     */
+    public void send() {
+        forEachInstance(rendered -> {
+            for (Player player : rendered.viewers) {
+                player.sendActionBar(rendered.text);
+            }
+        });
+    }
+
+    @Override
+    protected Rendered create(String languageCode) {
+        return new Rendered();
+    }
+
+    @Override
+    protected void render(Rendered rendered, String languageCode) {
+        rendered.text = LegacyComponentSerializer.legacySection().deserialize(text(languageCode, key, args));
+    }
+
+    @Override
+    protected void attach(Rendered rendered, Player player) {
+        rendered.viewers.add(player);
+    }
+
+    @Override
+    protected void detach(Rendered rendered, Player player) {
+        rendered.viewers.remove(player);
+    }
+
+    /**
+     * Rendered text for one language and its viewers
+     */
+    public static final class Rendered {
+        private final Set<Player> viewers = new HashSet<>();
+        private Component text = Component.empty();
+    }
+}
@@ -0,0 +1,90 @@
+package dev.steyon.translateMCPlugin.display;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * Boss bar whose title is a translation key, rendered once per language
+ */
+public class TranslatedBossBar extends TranslatedDisplay<BossBar> {
+    private final String key;
+    private Object[] args;
+    private BarColor color;
+    private BarStyle style;
+    private double progress = 1.0;
+
+    public TranslatedBossBar(TranslateMCPlugin plugin, String key, BarColor color, BarStyle style, Object... args) {
+        super(plugin);
+        this.key = key;
+        this.args = args.clone();
+        this.color = color;
+        this.style = style;
+    }
+
+    /**
+     * Sets the arguments for the title; only re-renders if they changed
+     */
+    public void setArguments(Object... args) {
+        if (!Arrays.equals(this.args, args)) {
+            this.args = args.clone();
+            invalidate();
+        }
+    }
+
+    /**
+     * Sets the progress of every language's bar
+     */
+    public void setProgress(double progress) {
+        this.progress = progress;
+        forEachInstance(bar -> bar.setProgress(progress));
+    }
+
+    /**
+     * Sets the color of every language's bar
+     */
+    public void setColor(BarColor color) {
+        this.color = color;
+        forEachInstance(bar -> bar.setColor(color));
+    }
+
+    /**
+     * Sets the style of every language's bar
+     */
+    public void setStyle(BarStyle style) {
+        this.style = style;
+        forEachInstance(bar -> bar.setStyle(style));
+    }
+
+    @Override
+    protected BossBar create(String languageCode) {
+        BossBar bar = Bukkit.createBossBar("", color, style);
+        bar.setProgress(progress);
+        return bar;
+    }
+
+    @Override
+    protected void render(BossBar bar, String languageCode) {
+        bar.setTitle(text(languageCode, key, args));
+    }
+
+    @Override
+    protected void attach(BossBar bar, Player player) {
+        bar.addPlayer(player);
+    }
+
+    @Override
+    protected void detach(BossBar bar, Player player) {
+        bar.removePlayer(player);
+    }
+
+    @Override
+    protected void destroy(BossBar bar) {
+        bar.removeAll();
+    }
+}
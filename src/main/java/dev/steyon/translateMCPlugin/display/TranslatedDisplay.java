@@ -0,0 +1,240 @@
+package dev.steyon.translateMCPlugin.display;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Base class for displays that are rendered once per language instead of once per player.
+ *
+ * Each language with at least one viewer gets its own instance, and viewers are attached
+ * to the instance of their language. Instances are only re-rendered when the translation
+ * snapshot or the display's arguments change.
+ * Displays register with the {@link DisplayManager} when their first viewer is added.
+ * Must only be used from the main thread.
+ *
+ * @param <T> the per-language instance, e.g. a boss bar
+ */
+public abstract class TranslatedDisplay<T> {
+    protected final TranslateMCPlugin plugin;
+
+    private final Map<String, Slot<T>> slots = new HashMap<>();
+    private final Map<UUID, Slot<T>> viewers = new HashMap<>();
+    private long renderedVersion;
+    private boolean registered;
+    private boolean destroyed;
+
+    protected TranslatedDisplay(TranslateMCPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Creates the instance for a language
+     */
+    protected abstract T create(String languageCode);
+
+    /**
+     * Renders the current templates into an instance
+     */
+    protected abstract void render(T instance, String languageCode);
+
+    /**
+     * Shows an instance to a player
+     */
+    protected abstract void attach(T instance, Player player);
+
+    /**
+     * Hides an instance from a player
+     */
+    protected abstract void detach(T instance, Player player);
+
+    /**
+     * Releases an instance that no longer has viewers
+     */
+    protected void destroy(T instance) {
+    }
+
+    /**
+     * Shows this display to a player in their language
+     */
+    public void addViewer(Player player) {
+        if (destroyed) {
+            return;
+        }
+        if (!registered) {
+            // Registered here rather than in the constructor, so a subclass that rejects its arguments is never registered
+            renderedVersion = plugin.getTranslationManager().getSnapshotVersion();
+            plugin.getDisplayManager().register(this);
+            registered = true;
+        }
+        moveViewer(player, plugin.getTranslationManager().getPlayerLanguage(player));
+    }
+
+    /**
+     * Hides this display from a player
+     */
+    public void removeViewer(Player player) {
+        Slot<T> slot = viewers.remove(player.getUniqueId());
+        if (slot != null) {
+            detach(slot.instance, player);
+            release(slot);
+        }
+    }
+
+    /**
+     * Checks if a player is viewing this display
+     */
+    public boolean isViewer(Player player) {
+        return viewers.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Gets the number of rendered language instances
+     */
+    public int getInstanceCount() {
+        return slots.size();
+    }
+
+    /**
+     * Hides this display from everyone and stops updating it
+     */
+    public void destroy() {
+        for (Map.Entry<UUID, Slot<T>> entry : viewers.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null) {
+                detach(entry.getValue().instance, player);
+            }
+        }
+        for (Slot<T> slot : slots.values()) {
+            destroy(slot.instance);
+        }
+        viewers.clear();
+        slots.clear();
+        destroyed = true;
+        if (registered) {
+            plugin.getDisplayManager().unregister(this);
+            registered = false;
+        }
+    }
+
+    /**
+     * Moves a viewer to the instance of another language
+     */
+    void onLanguageChange(UUID playerUUID, String newLanguage) {
+        Slot<T> current = viewers.get(playerUUID);
+        if (current == null || current.languageCode.equals(newLanguage)) {
+            return;
+        }
+
+        Player player = Bukkit.getPlayer(playerUUID);
+        if (player == null) {
+            viewers.remove(playerUUID);
+            release(current);
+            return;
+        }
+        moveViewer(player, newLanguage);
+    }
+
+    /**
+     * Detaches a viewer that is leaving the server, so instances don't keep a reference to them
+     */
+    void onQuit(Player player) {
+        removeViewer(player);
+    }
+
+    /**
+     * Re-renders all instances if the translation snapshot changed
+     */
+    void refresh(long snapshotVersion) {
+        if (snapshotVersion != renderedVersion) {
+            renderedVersion = snapshotVersion;
+            invalidate();
+        }
+    }
+
+    /**
+     * Re-renders all instances, e.g. after the arguments changed
+     */
+    protected void invalidate() {
+        for (Slot<T> slot : slots.values()) {
+            render(slot.instance, slot.languageCode);
+        }
+    }
+
+    /**
+     * Applies an action to every instance
+     */
+    protected void forEachInstance(Consumer<T> action) {
+        for (Slot<T> slot : slots.values()) {
+            action.accept(slot.instance);
+        }
+    }
+
+    /**
+     * Applies an action to every instance and its language
+     */
+    protected void forEachLanguage(BiConsumer<String, T> action) {
+        for (Slot<T> slot : slots.values()) {
+            action.accept(slot.languageCode, slot.instance);
+        }
+    }
+
+    /**
+     * Renders a template in a language, translating color codes
+     */
+    protected String text(String languageCode, String key, Object[] args) {
+        return ChatColor.translateAlternateColorCodes('&', plugin.getTranslationManager().format(key, languageCode, args));
+    }
+
+    private void moveViewer(Player player, String languageCode) {
+        Slot<T> previous = viewers.get(player.getUniqueId());
+        if (previous != null && previous.languageCode.equals(languageCode)) {
+            return;
+        }
+
+        Slot<T> slot = slots.get(languageCode);
+        if (slot == null) {
+            T instance = create(languageCode);
+            render(instance, languageCode);
+            slot = new Slot<>(languageCode, instance);
+            slots.put(languageCode, slot);
+        }
+
+        if (previous != null) {
+            detach(previous.instance, player);
+            release(previous);
+        }
+
+        slot.viewers++;
+        viewers.put(player.getUniqueId(), slot);
+        attach(slot.instance, player);
+    }
+
+    private void release(Slot<T> slot) {
+        if (--slot.viewers <= 0) {
+            slots.remove(slot.languageCode);
+            destroy(slot.instance);
+        }
+    }
+
+    /**
+     * Instance for one language and its viewer count
+     */
+    private static final class Slot<T> {
+        private final String languageCode;
+        private final T instance;
+        private int viewers;
+
+        Slot(String languageCode, T instance) {
+            this.languageCode = languageCode;
+            this.instance = instance;
+        }
+    }
+}
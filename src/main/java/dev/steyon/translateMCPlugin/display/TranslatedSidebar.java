@@ -0,0 +1,94 @@
+package dev.steyon.translateMCPlugin.display;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sidebar whose title and lines are translation keys, with one scoreboard per language
+ */
+public class TranslatedSidebar extends TranslatedDisplay<Scoreboard> {
+    private static final int MAX_LINES = 15;
+
+    private final String titleKey;
+    private final List<TranslatedSidebarLine> lines;
+
+    public TranslatedSidebar(TranslateMCPlugin plugin, String titleKey, List<TranslatedSidebarLine> lines) {
+        super(plugin);
+        if (lines.size() > MAX_LINES) {
+            throw new IllegalArgumentException("A sidebar can have at most " + MAX_LINES + " lines");
+        }
+        this.titleKey = titleKey;
+        this.lines = new ArrayList<>(lines);
+    }
+
+    /**
+     * Sets the arguments of a line; only re-renders that line, and only if they changed
+     */
+    public void setLineArguments(int index, Object... args) {
+        if (lines.get(index).setArguments(args)) {
+            forEachLanguage((languageCode, scoreboard) -> renderLine(scoreboard, languageCode, index));
+        }
+    }
+
+    @Override
+    protected Scoreboard create(String languageCode) {
+        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        Objective objective = scoreboard.registerNewObjective("translatemc", Criteria.DUMMY, "");
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+        for (int i = 0; i < lines.size(); i++) {
+            // Each line is an invisible unique entry whose text lives in its team prefix
+            String entry = entry(i);
+            Team team = scoreboard.registerNewTeam("line" + i);
+            team.addEntry(entry);
+            objective.getScore(entry).setScore(lines.size() - i);
+        }
+        return scoreboard;
+    }
+
+    @Override
+    protected void render(Scoreboard scoreboard, String languageCode) {
+        Objective objective = scoreboard.getObjective("translatemc");
+        if (objective != null) {
+            objective.setDisplayName(text(languageCode, titleKey, new Object[0]));
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            renderLine(scoreboard, languageCode, i);
+        }
+    }
+
+    private void renderLine(Scoreboard scoreboard, String languageCode, int index) {
+        Team team = scoreboard.getTeam("line" + index);
+        if (team != null) {
+            TranslatedSidebarLine line = lines.get(index);
+            team.setPrefix(text(languageCode, line.getKey(), line.arguments()));
+        }
+    }
+
+    @Override
+    protected void attach(Scoreboard scoreboard, Player player) {
+        player.setScoreboard(scoreboard);
+    }
+
+    @Override
+    protected void detach(Scoreboard scoreboard, Player player) {
+        if (player.getScoreboard() == scoreboard) {
+            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        }
+    }
+
+    private static String entry(int index) {
+        return ChatColor.values()[index].toString() + ChatColor.RESET;
+    }
+}
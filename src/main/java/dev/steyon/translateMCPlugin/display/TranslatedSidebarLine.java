@@ -0,0 +1,41 @@
+package dev.steyon.translateMCPlugin.display;
+
+import java.util.Arrays;
+
+/**
+ * A single sidebar line: a translation key and its arguments
+ */
+public class TranslatedSidebarLine {
+    private final String key;
+    private Object[] args;
+
+    public TranslatedSidebarLine(String key, Object... args) {
+        this.key = key;
+        this.args = args.clone();
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Object[] getArguments() {
+        return args.clone();
+    }
+
+    Object[] arguments() {
+        return args;
+    }
+
+    /**
+     * Sets the arguments
+     * @return true if they changed
+     */
+    boolean setArguments(Object... args) {
+        if (Arrays.equals(this.args, args)) {
+            return false;
+        }
+        // Copied, so a caller reusing its array cannot change the line without re-rendering it
+        this.args = args.clone();
+        return true;
+    }
+}
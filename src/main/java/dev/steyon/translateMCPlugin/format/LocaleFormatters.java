@@ -0,0 +1,107 @@
+package dev.steyon.translateMCPlugin.format;
+
+import java.text.NumberFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe number and date formatters for one locale, cached for the lifetime of the server.
+ * NumberFormat is not thread-safe, so every thread keeps its own instances.
+ */
+public final class LocaleFormatters {
+    private static final Map<Locale, LocaleFormatters> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Number styles supported in patterns
+     */
+    public enum NumberStyle {
+        DEFAULT,
+        INTEGER,
+        PERCENT
+    }
+
+    private final Locale locale;
+    private final ThreadLocal<NumberFormat> numberFormat;
+    private final ThreadLocal<NumberFormat> integerFormat;
+    private final ThreadLocal<NumberFormat> percentFormat;
+    private final Map<FormatStyle, DateTimeFormatter> dateFormatters = new EnumMap<>(FormatStyle.class);
+    private final Map<FormatStyle, DateTimeFormatter> timeFormatters = new EnumMap<>(FormatStyle.class);
+
+    private LocaleFormatters(Locale locale) {
+        this.locale = locale;
+        this.numberFormat = ThreadLocal.withInitial(() -> NumberFormat.getNumberInstance(locale));
+        this.integerFormat = ThreadLocal.withInitial(() -> NumberFormat.getIntegerInstance(locale));
+        this.percentFormat = ThreadLocal.withInitial(() -> NumberFormat.getPercentInstance(locale));
+
+        ZoneId zone = ZoneId.systemDefault();
+        for (FormatStyle style : FormatStyle.values()) {
+            dateFormatters.put(style, DateTimeFormatter.ofLocalizedDate(style).withLocale(locale).withZone(zone));
+            timeFormatters.put(style, DateTimeFormatter.ofLocalizedTime(style).withLocale(locale).withZone(zone));
+        }
+    }
+
+    /**
+     * Gets the formatters for a locale
+     */
+    public static LocaleFormatters forLocale(Locale locale) {
+        return CACHE.computeIfAbsent(locale, LocaleFormatters::new);
+    }
+
+    /**
+     * Gets the formatters for a language code such as "de" or "pt_BR"
+     */
+    public static LocaleFormatters forLanguage(String languageCode) {
+        return forLocale(Locale.forLanguageTag(languageCode.replace('_', '-')));
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Formats a number in the given style
+     */
+    public String formatNumber(Number number, NumberStyle style) {
+        NumberFormat format = switch (style) {
+            case INTEGER -> integerFormat.get();
+            case PERCENT -> percentFormat.get();
+            default -> numberFormat.get();
+        };
+        return format.format(number);
+    }
+
+    /**
+     * Formats a date or time value: a {@link TemporalAccessor}, {@link Date}, {@link Calendar}
+     * or epoch milliseconds. Other values are written as they are.
+     */
+    public String formatDate(Object value, FormatStyle style, boolean time) {
+        TemporalAccessor temporal;
+        if (value instanceof TemporalAccessor accessor) {
+            temporal = accessor;
+        } else if (value instanceof Date date) {
+            temporal = date.toInstant();
+        } else if (value instanceof Calendar calendar) {
+            temporal = calendar.toInstant();
+        } else if (value instanceof Number number) {
+            temporal = Instant.ofEpochMilli(number.longValue());
+        } else {
+            return String.valueOf(value);
+        }
+
+        try {
+            return (time ? timeFormatters : dateFormatters).get(style).format(temporal);
+        } catch (DateTimeException e) {
+            return String.valueOf(value);
+        }
+    }
+}
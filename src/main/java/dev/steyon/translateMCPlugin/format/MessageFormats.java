@@ -0,0 +1,106 @@
+package dev.steyon.translateMCPlugin.format;
+
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled message patterns of one translation table, per language.
+ *
+ * Patterns are compiled when a table is loaded so malformed values are reported at refresh time.
+ * Values from a binary snapshot are compiled on first use instead, to keep opening it cheap.
+ */
+public final class MessageFormats {
+    private final Map<String, LanguageFormats> languages = new ConcurrentHashMap<>();
+    private final List<String> errors;
+
+    private MessageFormats(List<String> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Creates an empty set of formats that compiles patterns on first use
+     */
+    public static MessageFormats lazy() {
+        return new MessageFormats(Collections.emptyList());
+    }
+
+    /**
+     * Compiles every value that contains arguments
+     */
+    public static MessageFormats compile(Map<String, Map<String, TranslationAPI.Translation>> translations) {
+        List<String> errors = new ArrayList<>();
+        MessageFormats formats = new MessageFormats(errors);
+
+        for (Map.Entry<String, Map<String, TranslationAPI.Translation>> keyEntry : translations.entrySet()) {
+            for (Map.Entry<String, TranslationAPI.Translation> entry : keyEntry.getValue().entrySet()) {
+                String value = entry.getValue().getValue();
+                if (value.indexOf('{') < 0) {
+                    continue;
+                }
+
+                MessagePattern pattern;
+                try {
+                    pattern = MessagePattern.compile(value);
+                } catch (IllegalArgumentException e) {
+                    errors.add(keyEntry.getKey() + " [" + entry.getKey() + "]: " + e.getMessage());
+                    pattern = MessagePattern.literal(value);
+                }
+                formats.forLanguage(entry.getKey()).patterns.put(keyEntry.getKey(), pattern);
+            }
+        }
+        return formats;
+    }
+
+    /**
+     * Formats a translation value with arguments
+     * @param languageCode the language the value belongs to
+     * @param key the translation key
+     * @param value the translation value
+     */
+    public String format(String languageCode, String key, String value, Object[] args) {
+        LanguageFormats language = forLanguage(languageCode);
+
+        MessagePattern pattern = language.patterns.get(key);
+        // Values are usually the same instance the pattern was compiled from, so equals only runs after a reload
+        if (pattern == null || (pattern.getSource() != value && !pattern.getSource().equals(value))) {
+            try {
+                pattern = MessagePattern.compile(value);
+            } catch (IllegalArgumentException e) {
+                pattern = MessagePattern.literal(value);
+            }
+            language.patterns.put(key, pattern);
+        }
+
+        return pattern.format(args, language.pluralRule, language.formatters);
+    }
+
+    /**
+     * Gets the malformed patterns found while compiling, as "key [language]: problem"
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    private LanguageFormats forLanguage(String languageCode) {
+        return languages.computeIfAbsent(languageCode, LanguageFormats::new);
+    }
+
+    /**
+     * Plural rule, formatters and compiled patterns of one language
+     */
+    private static final class LanguageFormats {
+        private final PluralRule pluralRule;
+        private final LocaleFormatters formatters;
+        private final Map<String, MessagePattern> patterns = new ConcurrentHashMap<>();
+
+        LanguageFormats(String languageCode) {
+            this.pluralRule = PluralRule.forLanguage(languageCode);
+            this.formatters = LocaleFormatters.forLanguage(languageCode);
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package dev.steyon.translateMCPlugin.format;
+
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiled translation value with ICU-style arguments.
+ *
+ * Supported syntax:
+ * <pre>
+ * {0}                                      argument, numbers and dates are formatted for the locale
+ * {0, number} {0, number, integer|percent} number
+ * {0, date, short|medium|long|full}        date, likewise {0, time, ...}
+ * {0, plural, =0 {none} one {# coin} other {# coins}}
+ * {0, select, male {his} female {her} other {their}}
+ * </pre>
+ * Inside plural branches {@code #} is replaced by the formatted number. {@code ''} is a single
+ * apostrophe and an apostrophe before a brace quotes text until the next apostrophe.
+ * Placeholders with non-numeric names such as {@code {player}} are kept as they are,
+ * so values meant for other plugins still work.
+ */
+public final class MessagePattern {
+    private final String source;
+    private final Part[] parts;
+
+    private MessagePattern(String source, Part[] parts) {
+        this.source = source;
+        this.parts = parts;
+    }
+
+    /**
+     * Compiles a pattern
+     * @throws IllegalArgumentException if the pattern is malformed
+     */
+    public static MessagePattern compile(String source) {
+        Parser parser = new Parser(source);
+        List<Part> parts = parser.parseSequence(false, false);
+        return new MessagePattern(source, parts.toArray(new Part[0]));
+    }
+
+    /**
+     * A pattern that always outputs the given text, used for malformed values
+     */
+    public static MessagePattern literal(String source) {
+        return new MessagePattern(source, new Part[]{new Text(source)});
+    }
+
+    /**
+     * Gets the value this pattern was compiled from
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Formats the pattern with the given arguments
+     */
+    public String format(Object[] args, PluralRule pluralRule, LocaleFormatters formatters) {
+        StringBuilder out = new StringBuilder(source.length() + 16);
+        appendParts(parts, out, args, pluralRule, formatters, null);
+        return out.toString();
+    }
+
+    private static void appendParts(Part[] parts, StringBuilder out, Object[] args, PluralRule pluralRule,
+                                    LocaleFormatters formatters, Number pluralNumber) {
+        for (Part part : parts) {
+            part.append(out, args, pluralRule, formatters, pluralNumber);
+        }
+    }
+
+    /**
+     * A compiled piece of a pattern
+     */
+    private interface Part {
+        void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber);
+    }
+
+    private record Text(String text) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            out.append(text);
+        }
+    }
+
+    private record Pound() implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            if (pluralNumber != null) {
+                out.append(formatters.formatNumber(pluralNumber, LocaleFormatters.NumberStyle.DEFAULT));
+            } else {
+                out.append('#');
+            }
+        }
+    }
+
+    private record Argument(int index) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            if (index >= args.length) {
+                out.append('{').append(index).append('}');
+                return;
+            }
+
+            Object value = args[index];
+            if (value instanceof Number number) {
+                out.append(formatters.formatNumber(number, LocaleFormatters.NumberStyle.DEFAULT));
+            } else if (value instanceof TemporalAccessor || value instanceof Date) {
+                out.append(formatters.formatDate(value, FormatStyle.MEDIUM, false));
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    private record NumberArgument(int index, LocaleFormatters.NumberStyle style) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            if (index >= args.length) {
+                out.append('{').append(index).append('}');
+            } else if (args[index] instanceof Number number) {
+                out.append(formatters.formatNumber(number, style));
+            } else {
+                out.append(args[index]);
+            }
+        }
+    }
+
+    private record DateArgument(int index, FormatStyle style, boolean time) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            if (index >= args.length) {
+                out.append('{').append(index).append('}');
+            } else {
+                out.append(formatters.formatDate(args[index], style, time));
+            }
+        }
+    }
+
+    private record Plural(int index, Map<Double, Part[]> exact, Map<PluralCategory, Part[]> categories) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            if (index >= args.length) {
+                out.append('{').append(index).append('}');
+                return;
+            }
+
+            Part[] branch = null;
+            Number number = args[index] instanceof Number value ? value : null;
+            if (number != null) {
+                double n = number.doubleValue();
+                branch = exact.get(n);
+                if (branch == null) {
+                    branch = categories.get(pluralRule.select(n));
+                }
+            }
+            if (branch == null) {
+                branch = categories.get(PluralCategory.OTHER);
+            }
+            appendParts(branch, out, args, pluralRule, formatters, number);
+        }
+    }
+
+    private record Select(int index, Map<String, Part[]> branches, Part[] other) implements Part {
+        @Override
+        public void append(StringBuilder out, Object[] args, PluralRule pluralRule, LocaleFormatters formatters, Number pluralNumber) {
+            if (index >= args.length) {
+                out.append('{').append(index).append('}');
+                return;
+            }
+
+            Part[] branch = branches.get(String.valueOf(args[index]));
+            appendParts(branch != null ? branch : other, out, args, pluralRule, formatters, pluralNumber);
+        }
+    }
+
+    /**
+     * Recursive descent parser producing the part tree
+     */
+    private static final class Parser {
+        private final String source;
+        private int pos;
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        /**
+         * Parses text and arguments until the end of input, or until the closing brace of a sub-message
+         */
+        List<Part> parseSequence(boolean nested, boolean inPlural) {
+            List<Part> parts = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+
+            while (pos < source.length()) {
+                char c = source.charAt(pos);
+                if (c == '\'') {
+                    parseQuote(text, inPlural);
+                } else if (c == '{') {
+                    flush(text, parts);
+                    parts.add(parseArgument());
+                } else if (c == '}') {
+                    if (nested) {
+                        break;
+                    }
+                    throw error("Unexpected '}'");
+                } else if (c == '#' && inPlural) {
+                    flush(text, parts);
+                    parts.add(new Pound());
+                    pos++;
+                } else {
+                    text.append(c);
+                    pos++;
+                }
+            }
+
+            if (nested && pos >= source.length()) {
+                throw error("Unclosed sub-message");
+            }
+            flush(text, parts);
+            return parts;
+        }
+
+        private void parseQuote(StringBuilder text, boolean inPlural) {
+            char next = pos + 1 < source.length() ? source.charAt(pos + 1) : 0;
+            if (next == '\'') {
+                text.append('\'');
+                pos += 2;
+                return;
+            }
+            if (next != '{' && next != '}' && !(next == '#' && inPlural)) {
+                text.append('\'');
+                pos++;
+                return;
+            }
+
+            // Quoted literal text until the next single apostrophe
+            pos++;
+            while (pos < source.length()) {
+                char c = source.charAt(pos);
+                if (c == '\'') {
+                    if (pos + 1 < source.length() && source.charAt(pos + 1) == '\'') {
+                        text.append('\'');
+                        pos += 2;
+                        continue;
+                    }
+                    pos++;
+                    return;
+                }
+                text.append(c);
+                pos++;
+            }
+        }
+
+        private Part parseArgument() {
+            int start = pos;
+            pos++; // '{'
+            skipWhitespace();
+
+            if (pos >= source.length() || !Character.isDigit(source.charAt(pos))) {
+                // Not one of ours, e.g. {player}; keep it as text
+                int end = source.indexOf('}', pos);
+                if (end < 0) {
+                    throw error("Unclosed argument", start);
+                }
+                String name = source.substring(start + 1, end);
+                if (name.indexOf(',') >= 0 || name.indexOf('{') >= 0) {
+                    throw error("Argument index must be a number", start);
+                }
+                pos = end + 1;
+                return new Text(source.substring(start, end + 1));
+            }
+
+            int index = parseIndex();
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return new Argument(index);
+            }
+
+            expect(',');
+            skipWhitespace();
+            String type = parseIdentifier().toLowerCase(Locale.ROOT);
+            skipWhitespace();
+
+            return switch (type) {
+                case "number" -> parseNumber(index);
+                case "date", "time" -> parseDate(index, type.equals("time"));
+                case "plural" -> parsePlural(index);
+                case "select" -> parseSelect(index);
+                default -> throw error("Unknown argument type '" + type + "'");
+            };
+        }
+
+        private Part parseNumber(int index) {
+            String style = parseOptionalStyle();
+            LocaleFormatters.NumberStyle numberStyle = switch (style) {
+                case "" -> LocaleFormatters.NumberStyle.DEFAULT;
+                case "integer" -> LocaleFormatters.NumberStyle.INTEGER;
+                case "percent" -> LocaleFormatters.NumberStyle.PERCENT;
+                default -> throw error("Unknown number style '" + style + "'");
+            };
+            return new NumberArgument(index, numberStyle);
+        }
+
+        private Part parseDate(int index, boolean time) {
+            String style = parseOptionalStyle();
+            FormatStyle formatStyle = switch (style) {
+                case "", "medium" -> FormatStyle.MEDIUM;
+                case "short" -> FormatStyle.SHORT;
+                case "long" -> FormatStyle.LONG;
+                case "full" -> FormatStyle.FULL;
+                default -> throw error("Unknown date style '" + style + "'");
+            };
+            return new DateArgument(index, formatStyle, time);
+        }
+
+        private String parseOptionalStyle() {
+            String style = "";
+            if (peek() == ',') {
+                pos++;
+                skipWhitespace();
+                style = parseIdentifier().toLowerCase(Locale.ROOT);
+                skipWhitespace();
+            }
+            expect('}');
+            return style;
+        }
+
+        private Part parsePlural(int index) {
+            expect(',');
+            Map<Double, Part[]> exact = new HashMap<>();
+            Map<PluralCategory, Part[]> categories = new EnumMap<>(PluralCategory.class);
+
+            while (true) {
+                skipWhitespace();
+                if (peek() == '}') {
+                    pos++;
+                    break;
+                }
+
+                int selectorStart = pos;
+                if (peek() == '=') {
+                    pos++;
+                    String number = parseIdentifier();
+                    try {
+                        exact.put(Double.parseDouble(number), parseBranch(true));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid plural selector '=" + number + "'", selectorStart);
+                    }
+                } else {
+                    String keyword = parseIdentifier().toLowerCase(Locale.ROOT);
+                    PluralCategory category = PluralCategory.fromKeyword(keyword);
+                    if (category == null) {
+                        throw error("Unknown plural category '" + keyword + "'", selectorStart);
+                    }
+                    categories.put(category, parseBranch(true));
+                }
+            }
+
+            if (!categories.containsKey(PluralCategory.OTHER)) {
+                throw error("Plural argument {" + index + "} has no 'other' branch");
+            }
+            return new Plural(index, exact, categories);
+        }
+
+        private Part parseSelect(int index) {
+            expect(',');
+            Map<String, Part[]> branches = new HashMap<>();
+
+            while (true) {
+                skipWhitespace();
+                if (peek() == '}') {
+                    pos++;
+                    break;
+                }
+                String keyword = parseIdentifier();
+                branches.put(keyword, parseBranch(false));
+            }
+
+            Part[] other = branches.remove("other");
+            if (other == null) {
+                throw error("Select argument {" + index + "} has no 'other' branch");
+            }
+            return new Select(index, branches, other);
+        }
+
+        private Part[] parseBranch(boolean inPlural) {
+            skipWhitespace();
+            expect('{');
+            List<Part> parts = parseSequence(true, inPlural);
+            expect('}');
+            return parts.toArray(new Part[0]);
+        }
+
+        private int parseIndex() {
+            int start = pos;
+            while (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+                pos++;
+            }
+            try {
+                return Integer.parseInt(source.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("Argument index is too large", start);
+            }
+        }
+
+        private String parseIdentifier() {
+            int start = pos;
+            while (pos < source.length()) {
+                char c = source.charAt(pos);
+                if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                    break;
+                }
+                pos++;
+            }
+            if (start == pos) {
+                throw error("Expected a name");
+            }
+            return source.substring(start, pos);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+            pos++;
+        }
+
+        private char peek() {
+            return pos < source.length() ? source.charAt(pos) : 0;
+        }
+
+        private void skipWhitespace() {
+            while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private void flush(StringBuilder text, List<Part> parts) {
+            if (!text.isEmpty()) {
+                parts.add(new Text(text.toString()));
+                text.setLength(0);
+            }
+        }
+
+        IllegalArgumentException error(String message) {
+            return error(message, pos);
+        }
+
+        IllegalArgumentException error(String message, int position) {
+            return new IllegalArgumentException(message + " at position " + position);
+        }
+    }
+}
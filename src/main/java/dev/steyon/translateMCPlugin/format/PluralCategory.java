@@ -0,0 +1,27 @@
+package dev.steyon.translateMCPlugin.format;
+
+import java.util.Locale;
+
+/**
+ * CLDR plural categories
+ */
+public enum PluralCategory {
+    ZERO,
+    ONE,
+    TWO,
+    FEW,
+    MANY,
+    OTHER;
+
+    /**
+     * Gets the category for a plural selector keyword, or null if it isn't one
+     */
+    public static PluralCategory fromKeyword(String keyword) {
+        for (PluralCategory category : values()) {
+            if (category.name().toLowerCase(Locale.ROOT).equals(keyword)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
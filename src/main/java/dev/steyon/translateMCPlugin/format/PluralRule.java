@@ -0,0 +1,136 @@
+package dev.steyon.translateMCPlugin.format;
+
+import java.util.Locale;
+
+/**
+ * Selects the plural category of a number for one language.
+ * The rules cover the cardinal CLDR rules of the common server languages;
+ * unknown languages use the English rule.
+ */
+@FunctionalInterface
+public interface PluralRule {
+
+    PluralRule OTHER_ONLY = n -> PluralCategory.OTHER;
+
+    PluralRule ENGLISH = n -> isInteger(n) && n == 1 ? PluralCategory.ONE : PluralCategory.OTHER;
+
+    PluralRule FRENCH = n -> n >= 0 && n < 2 ? PluralCategory.ONE : PluralCategory.OTHER;
+
+    PluralRule EAST_SLAVIC = n -> {
+        if (!isInteger(n)) return PluralCategory.OTHER;
+        long mod10 = mod(n, 10), mod100 = mod(n, 100);
+        if (mod10 == 1 && mod100 != 11) return PluralCategory.ONE;
+        if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return PluralCategory.FEW;
+        return PluralCategory.MANY;
+    };
+
+    PluralRule SOUTH_SLAVIC = n -> {
+        if (!isInteger(n)) return PluralCategory.OTHER;
+        long mod10 = mod(n, 10), mod100 = mod(n, 100);
+        if (mod10 == 1 && mod100 != 11) return PluralCategory.ONE;
+        if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return PluralCategory.FEW;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule POLISH = n -> {
+        if (!isInteger(n)) return PluralCategory.OTHER;
+        long mod10 = mod(n, 10), mod100 = mod(n, 100);
+        if (n == 1) return PluralCategory.ONE;
+        if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return PluralCategory.FEW;
+        return PluralCategory.MANY;
+    };
+
+    PluralRule CZECH = n -> {
+        if (!isInteger(n)) return PluralCategory.MANY;
+        if (n == 1) return PluralCategory.ONE;
+        if (n >= 2 && n <= 4) return PluralCategory.FEW;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule LITHUANIAN = n -> {
+        if (!isInteger(n)) return PluralCategory.MANY;
+        long mod10 = mod(n, 10), mod100 = mod(n, 100);
+        boolean teen = mod100 >= 11 && mod100 <= 19;
+        if (mod10 == 1 && !teen) return PluralCategory.ONE;
+        if (mod10 >= 2 && !teen) return PluralCategory.FEW;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule LATVIAN = n -> {
+        if (!isInteger(n)) return PluralCategory.OTHER;
+        long mod10 = mod(n, 10), mod100 = mod(n, 100);
+        if (mod10 == 0 || (mod100 >= 11 && mod100 <= 19)) return PluralCategory.ZERO;
+        if (mod10 == 1 && mod100 != 11) return PluralCategory.ONE;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule ROMANIAN = n -> {
+        if (!isInteger(n)) return PluralCategory.FEW;
+        long mod100 = mod(n, 100);
+        if (n == 1) return PluralCategory.ONE;
+        if (n == 0 || (mod100 >= 2 && mod100 <= 19)) return PluralCategory.FEW;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule SLOVENIAN = n -> {
+        if (!isInteger(n)) return PluralCategory.FEW;
+        long mod100 = mod(n, 100);
+        if (mod100 == 1) return PluralCategory.ONE;
+        if (mod100 == 2) return PluralCategory.TWO;
+        if (mod100 == 3 || mod100 == 4) return PluralCategory.FEW;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule ARABIC = n -> {
+        if (!isInteger(n)) return PluralCategory.OTHER;
+        long mod100 = mod(n, 100);
+        if (n == 0) return PluralCategory.ZERO;
+        if (n == 1) return PluralCategory.ONE;
+        if (n == 2) return PluralCategory.TWO;
+        if (mod100 >= 3 && mod100 <= 10) return PluralCategory.FEW;
+        if (mod100 >= 11) return PluralCategory.MANY;
+        return PluralCategory.OTHER;
+    };
+
+    PluralRule HEBREW = n -> {
+        if (!isInteger(n)) return PluralCategory.OTHER;
+        if (n == 1) return PluralCategory.ONE;
+        if (n == 2) return PluralCategory.TWO;
+        return PluralCategory.OTHER;
+    };
+
+    /**
+     * Selects the plural category of a number
+     */
+    PluralCategory select(double n);
+
+    /**
+     * Gets the plural rule for a language code such as "de", "pt_BR" or "sr-Latn"
+     */
+    static PluralRule forLanguage(String languageCode) {
+        String language = languageCode.split("[-_]", 2)[0].toLowerCase(Locale.ROOT);
+        return switch (language) {
+            case "ja", "zh", "ko", "vi", "th", "id", "ms", "lo", "my", "km" -> OTHER_ONLY;
+            case "fr", "pt" -> FRENCH;
+            case "ru", "uk", "be" -> EAST_SLAVIC;
+            case "hr", "sr", "bs" -> SOUTH_SLAVIC;
+            case "pl" -> POLISH;
+            case "cs", "sk" -> CZECH;
+            case "lt" -> LITHUANIAN;
+            case "lv" -> LATVIAN;
+            case "ro", "mo" -> ROMANIAN;
+            case "sl" -> SLOVENIAN;
+            case "ar" -> ARABIC;
+            case "he", "iw" -> HEBREW;
+            default -> ENGLISH;
+        };
+    }
+
+    private static boolean isInteger(double n) {
+        return !Double.isInfinite(n) && n == Math.rint(n);
+    }
+
+    private static long mod(double n, long divisor) {
+        return Math.abs((long) n) % divisor;
+    }
+}
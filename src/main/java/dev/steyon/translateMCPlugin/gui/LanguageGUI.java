@@ -2,6 +2,7 @@ package dev.steyon.translateMCPlugin.gui;
 
 import dev.steyon.translateMCPlugin.TranslateMCPlugin;
 import dev.steyon.translateMCPlugin.api.TranslationAPI;
+import dev.steyon.translateMCPlugin.profiler.ProfilerSection;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -13,6 +14,7 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.profile.PlayerProfile;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -59,13 +61,10 @@ public class LanguageGUI implements Listener {
         // Get the skull meta ONCE and keep using it for everything
         SkullMeta skullMeta = (SkullMeta) item.getItemMeta();
         if (skullMeta != null) {
-            // Set texture first if available
-            if (language.getMinecraftHead() != null && !language.getMinecraftHead().isEmpty()) {
-                try {
-                    setSkullTexture(skullMeta, language.getMinecraftHead());
-                } catch (Exception e) {
-                    plugin.getLogger().warning("Failed to set skull texture for language " + language.getCode() + ": " + e.getMessage());
-                }
+            // Set texture first if available, resolved ahead of time by the texture cache
+            PlayerProfile profile = plugin.getSkullTextures().getProfile(language.getMinecraftHead());
+            if (profile != null) {
+                skullMeta.setOwnerProfile(profile);
             }
 
             // Now set display name and lore on the SAME meta object
@@ -99,84 +98,26 @@ public class LanguageGUI implements Listener {
     }
 
     /**
-     * Sets the skull texture using a Base64 encoded texture value
-     * This method uses Paper/Spigot's PlayerProfile API for modern versions
+     * Handles GUI clicks
      */
-    private static void setSkullTexture(SkullMeta skullMeta, String base64Texture) {
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        TranslateMCPlugin plugin = TranslateMCPlugin.getInstance();
+        long start = plugin.getProfiler().start();
         try {
-            // Use Paper's PlayerProfile API (works on Paper 1.18+)
-            java.util.UUID uuid = java.util.UUID.randomUUID();
-            org.bukkit.profile.PlayerProfile profile = Bukkit.createPlayerProfile(uuid);
-            org.bukkit.profile.PlayerTextures textures = profile.getTextures();
-
-            // Decode the Base64 texture to get the texture URL
-            String decoded = new String(java.util.Base64.getDecoder().decode(base64Texture));
-            System.out.println("[DEBUG] Decoded texture JSON: " + decoded);
-
-            com.google.gson.JsonObject json = com.google.gson.JsonParser.parseString(decoded).getAsJsonObject();
-            String textureUrl = json.getAsJsonObject("textures")
-                    .getAsJsonObject("SKIN")
-                    .get("url")
-                    .getAsString();
-
-            // Fix: Ensure HTTPS is used (required for modern Minecraft versions)
-            if (textureUrl.startsWith("http://")) {
-                textureUrl = textureUrl.replace("http://", "https://");
-            }
-
-            System.out.println("[DEBUG] Texture URL (fixed): " + textureUrl);
-            textures.setSkin(new java.net.URL(textureUrl));
-            profile.setTextures(textures);
-            skullMeta.setOwnerProfile(profile);
-            System.out.println("[DEBUG] Successfully set skull texture");
-        } catch (Exception e) {
-            System.out.println("[DEBUG] Failed to set texture with PlayerProfile: " + e.getMessage());
-            e.printStackTrace();
-            // Fallback: Try using the NBT method for older versions
-            try {
-                setSkullTextureReflection(skullMeta, base64Texture);
-            } catch (Exception ex) {
-                throw new RuntimeException("Failed to set skull texture", ex);
-            }
+            handleClick(event, plugin);
+        } finally {
+            plugin.getProfiler().stop(ProfilerSection.GUI_CLICK, start);
         }
     }
 
-    /**
-     * Fallback method using reflection for older Spigot versions
-     */
-    private static void setSkullTextureReflection(SkullMeta skullMeta, String base64Texture) throws Exception {
-        Class<?> profileClass = Class.forName("com.mojang.authlib.GameProfile");
-        Class<?> propertyClass = Class.forName("com.mojang.authlib.properties.Property");
-
-        java.lang.reflect.Constructor<?> profileConstructor = profileClass.getConstructor(java.util.UUID.class, String.class);
-        Object profile = profileConstructor.newInstance(java.util.UUID.randomUUID(), null);
-
-        java.lang.reflect.Constructor<?> propertyConstructor = propertyClass.getConstructor(String.class, String.class);
-        Object property = propertyConstructor.newInstance("textures", base64Texture);
-
-        java.lang.reflect.Method getProperties = profile.getClass().getMethod("getProperties");
-        Object properties = getProperties.invoke(profile);
-
-        java.lang.reflect.Method put = properties.getClass().getMethod("put", Object.class, Object.class);
-        put.invoke(properties, "textures", property);
-
-        java.lang.reflect.Field profileField = skullMeta.getClass().getDeclaredField("profile");
-        profileField.setAccessible(true);
-        profileField.set(skullMeta, profile);
-    }
-
-    /**
-     * Handles GUI clicks
-     */
-    @EventHandler
-    public void onInventoryClick(InventoryClickEvent event) {
+    private void handleClick(InventoryClickEvent event, TranslateMCPlugin plugin) {
         if (!(event.getWhoClicked() instanceof Player)) return;
 
         Player player = (Player) event.getWhoClicked();
         String title = event.getView().getTitle();
 
         // Check if it's our GUI
-        TranslateMCPlugin plugin = TranslateMCPlugin.getInstance();
         String guiTitle = plugin.getConfig().getString("gui.title", "&6&lSelect Your Language");
         guiTitle = ChatColor.translateAlternateColorCodes('&', guiTitle);
 
@@ -0,0 +1,102 @@
+package dev.steyon.translateMCPlugin.gui;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.profile.PlayerProfile;
+import org.bukkit.profile.PlayerTextures;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the Base64 head textures of the available languages into player profiles.
+ *
+ * Textures are decoded off the main thread whenever translations are loaded, so opening
+ * the language GUI only does a map lookup. Each texture gets a UUID derived from its value,
+ * which lets clients reuse their cached skin instead of downloading it again.
+ */
+public class SkullTextureCache {
+    private final TranslateMCPlugin plugin;
+    private final Map<String, PlayerProfile> profiles = new ConcurrentHashMap<>();
+    private final Set<String> invalid = ConcurrentHashMap.newKeySet();
+
+    public SkullTextureCache(TranslateMCPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Resolves the textures of all available languages asynchronously
+     */
+    public void refreshAsync() {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, this::refresh);
+    }
+
+    /**
+     * Resolves textures that are new and forgets the ones no language uses anymore
+     */
+    public void refresh() {
+        List<TranslationAPI.Language> languages = plugin.getTranslationManager().getAvailableLanguages();
+        Set<String> textures = new HashSet<>();
+
+        for (TranslationAPI.Language language : languages) {
+            String texture = language.getMinecraftHead();
+            if (texture == null || texture.isEmpty()) {
+                continue;
+            }
+            textures.add(texture);
+
+            if (profiles.containsKey(texture) || invalid.contains(texture)) {
+                continue; // Unchanged since the last refresh
+            }
+
+            try {
+                profiles.put(texture, createProfile(texture));
+            } catch (Exception e) {
+                invalid.add(texture);
+                plugin.getLogger().warning("Invalid head texture for language " + language.getCode() + ": " + e.getMessage());
+            }
+        }
+
+        profiles.keySet().retainAll(textures);
+        invalid.retainAll(textures);
+    }
+
+    /**
+     * Gets the resolved profile for a texture, or null if it is invalid or not resolved yet
+     */
+    public PlayerProfile getProfile(String texture) {
+        return texture != null ? profiles.get(texture) : null;
+    }
+
+    private static PlayerProfile createProfile(String base64Texture) throws Exception {
+        String decoded = new String(Base64.getDecoder().decode(base64Texture), StandardCharsets.UTF_8);
+        JsonObject json = JsonParser.parseString(decoded).getAsJsonObject();
+        String textureUrl = json.getAsJsonObject("textures")
+                .getAsJsonObject("SKIN")
+                .get("url")
+                .getAsString();
+
+        // Ensure HTTPS is used (required for modern Minecraft versions)
+        if (textureUrl.startsWith("http://")) {
+            textureUrl = "https://" + textureUrl.substring("http://".length());
+        }
+
+        // Same texture, same UUID, so clients can reuse their cached skin
+        UUID uuid = UUID.nameUUIDFromBytes(("TranslateMC:" + textureUrl).getBytes(StandardCharsets.UTF_8));
+        PlayerProfile profile = Bukkit.createPlayerProfile(uuid);
+        PlayerTextures textures = profile.getTextures();
+        textures.setSkin(new URL(textureUrl));
+        profile.setTextures(textures);
+        return profile;
+    }
+}
@@ -0,0 +1,154 @@
+package dev.steyon.translateMCPlugin.item;
+
+import dev.steyon.translateMCPlugin.manager.LanguageRegistry;
+import dev.steyon.translateMCPlugin.manager.TranslationManager;
+import org.bukkit.ChatColor;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Item template whose display name and lore are translation keys.
+ *
+ * Arguments are passed when rendering, so one template serves every value of e.g. a price or a balance.
+ * Rendered items are cached per language together with their arguments, so a menu opened by many players
+ * builds one {@link ItemMeta} per language instead of one per viewer. The cache is dropped
+ * whenever a new translation table is loaded.
+ */
+public class TranslatableItem {
+    private final String id;
+    private final ItemStack template;
+    private final String nameKey;
+    private final List<String> loreKeys;
+    private final NamespacedKey argsKey;
+    private final TranslationManager translationManager;
+
+    private volatile RenderCache cache;
+
+    TranslatableItem(String id, ItemStack template, String nameKey, List<String> loreKeys, NamespacedKey argsKey,
+                     TranslationManager translationManager) {
+        this.id = id;
+        this.template = template;
+        this.nameKey = nameKey;
+        this.loreKeys = Collections.unmodifiableList(new ArrayList<>(loreKeys));
+        this.argsKey = argsKey;
+        this.translationManager = translationManager;
+    }
+
+    /**
+     * Gets a copy of the item rendered in the viewer's language.
+     * The rendered meta is built once per language and arguments and shared; only the copy is made per call.
+     * @param args arguments for the name and lore, stored in the item so it can be rendered again for other viewers
+     */
+    public ItemStack render(Player viewer, Object... args) {
+        return render(translationManager.getPlayerLanguage(viewer), args);
+    }
+
+    /**
+     * Gets the item rendered in a language; see {@link #render(Player, Object...)}
+     */
+    public ItemStack render(String languageCode, Object... args) {
+        RenderCache current = cache;
+        long version = translationManager.getSnapshotVersion();
+        LanguageRegistry registry = translationManager.getLanguageRegistry();
+        if (current == null || current.version != version || current.registry != registry) {
+            // One extra slot for languages that are not in the registry; they render in the default language
+            current = new RenderCache(version, registry, new Rendered[registry.size() + 1]);
+            cache = current;
+        }
+
+        int index = registry.indexOf(languageCode);
+        if (index < 0) {
+            index = current.items.length - 1;
+            languageCode = translationManager.getDefaultLanguage();
+        }
+
+        // Only the last arguments are kept per language, so changing values don't pile up
+        Rendered rendered = current.items[index];
+        if (rendered == null || !Arrays.equals(rendered.args, args)) {
+            rendered = new Rendered(args.clone(), build(languageCode, args));
+            current.items[index] = rendered;
+        }
+        // Callers may modify the item, e.g. its amount, so they never get the cached one
+        return rendered.item.clone();
+    }
+
+    private ItemStack build(String languageCode, Object[] args) {
+        ItemStack item = template.clone();
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return item;
+        }
+
+        if (nameKey != null) {
+            meta.setDisplayName(color(translationManager.format(nameKey, languageCode, args)));
+        }
+
+        if (!loreKeys.isEmpty()) {
+            List<String> lore = new ArrayList<>();
+            for (String loreKey : loreKeys) {
+                // A single lore translation may span several lines
+                for (String line : translationManager.format(loreKey, languageCode, args).split("\n", -1)) {
+                    lore.add(color(line));
+                }
+            }
+            meta.setLore(lore);
+        }
+
+        if (args.length > 0) {
+            List<String> argStrings = new ArrayList<>(args.length);
+            for (Object arg : args) {
+                argStrings.add(String.valueOf(arg));
+            }
+            meta.getPersistentDataContainer().set(argsKey, PersistentDataType.LIST.strings(), argStrings);
+        }
+
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    private static String color(String text) {
+        return ChatColor.translateAlternateColorCodes('&', text);
+    }
+
+    /**
+     * Gets the id stored in the items' persistent data
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets a copy of the tagged template item
+     */
+    public ItemStack getTemplate() {
+        return template.clone();
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    public List<String> getLoreKeys() {
+        return loreKeys;
+    }
+
+    /**
+     * Rendered items of one translation table, indexed by language
+     */
+    private record RenderCache(long version, LanguageRegistry registry, Rendered[] items) {
+    }
+
+    /**
+     * Item rendered with the given arguments
+     */
+    private record Rendered(Object[] args, ItemStack item) {
+    }
+}
@@ -0,0 +1,198 @@
+package dev.steyon.translateMCPlugin.item;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates translatable items and renders them for viewers.
+ *
+ * The translation keys are stored in the item's {@link PersistentDataContainer}, and rendered items also carry
+ * their arguments, so tagged items can be rendered again after they were saved, e.g. in a shop configuration.
+ * Templates only depend on the base item and the keys, so their number is bounded by the items the plugin defines.
+ */
+public class TranslatableItems {
+    private final TranslateMCPlugin plugin;
+    private final NamespacedKey idKey;
+    private final NamespacedKey nameKey;
+    private final NamespacedKey loreKey;
+    private final NamespacedKey argsKey;
+    private final Map<String, TranslatableItem> templates = new ConcurrentHashMap<>();
+    // The same templates by what they were created from, so creating an item again is a map lookup
+    private final Map<TemplateContent, TranslatableItem> templatesByContent = new ConcurrentHashMap<>();
+
+    public TranslatableItems(TranslateMCPlugin plugin) {
+        this.plugin = plugin;
+        this.idKey = new NamespacedKey(plugin, "item_id");
+        this.nameKey = new NamespacedKey(plugin, "item_name");
+        this.loreKey = new NamespacedKey(plugin, "item_lore");
+        this.argsKey = new NamespacedKey(plugin, "item_args");
+    }
+
+    /**
+     * Tags a copy of an item with translation keys and creates a template for it.
+     * Arguments are passed to {@link TranslatableItem#render(Player, Object...)}, so one template serves every value.
+     * Creating the same item with the same keys again returns the existing template.
+     * @param item the base item
+     * @param nameKey translation key of the display name, or null to keep the item's name
+     * @param loreKeys translation keys of the lore lines
+     */
+    public TranslatableItem create(ItemStack item, String nameKey, List<String> loreKeys) {
+        TranslatableItem known = templatesByContent.get(new TemplateContent(item, nameKey, loreKeys));
+        if (known != null) {
+            return known;
+        }
+
+        if (item.getItemMeta() == null) {
+            throw new IllegalArgumentException("Item of type " + item.getType() + " cannot be translated");
+        }
+
+        // The stored key must not change with the caller's item
+        TemplateContent content = new TemplateContent(item.clone(), nameKey, List.copyOf(loreKeys));
+        return templatesByContent.computeIfAbsent(content, this::tag);
+    }
+
+    private TranslatableItem tag(TemplateContent content) {
+        String id = templateId(content);
+        ItemStack template = content.item().clone();
+        ItemMeta meta = template.getItemMeta();
+        PersistentDataContainer data = meta.getPersistentDataContainer();
+        data.set(idKey, PersistentDataType.STRING, id);
+        if (content.nameKey() != null) {
+            data.set(this.nameKey, PersistentDataType.STRING, content.nameKey());
+        }
+        data.set(loreKey, PersistentDataType.LIST.strings(), content.loreKeys());
+        template.setItemMeta(meta);
+
+        TranslatableItem created = new TranslatableItem(id, template, content.nameKey(), content.loreKeys(), argsKey,
+            plugin.getTranslationManager());
+        // A saved item of the same template may have been restored already
+        TranslatableItem previous = templates.putIfAbsent(id, created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * Derives the template id from the serialized base item and the keys, so it stays the same across restarts
+     */
+    private static String templateId(TemplateContent content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.writeBytes(content.item().serializeAsBytes());
+        List<String> parts = new ArrayList<>();
+        parts.add(content.nameKey() != null ? "n" + content.nameKey() : "-");
+        parts.addAll(content.loreKeys());
+        for (String part : parts) {
+            // Length-prefixed, so neighbouring parts cannot run into each other
+            byte[] encoded = part.getBytes(StandardCharsets.UTF_8);
+            bytes.write(encoded.length >>> 24);
+            bytes.write(encoded.length >>> 16);
+            bytes.write(encoded.length >>> 8);
+            bytes.write(encoded.length);
+            bytes.writeBytes(encoded);
+        }
+        return UUID.nameUUIDFromBytes(bytes.toByteArray()).toString();
+    }
+
+    /**
+     * Renders a tagged item for a viewer with the arguments stored in it. Items without translation tags are returned as they are.
+     * Prefer keeping the {@link TranslatableItem} from {@link #create} and rendering it directly,
+     * which skips reading the item's persistent data.
+     */
+    public ItemStack render(ItemStack item, Player viewer) {
+        TranslatableItem translatable = getTemplate(item);
+        if (translatable == null) {
+            return item;
+        }
+
+        List<String> argStrings = item.getItemMeta().getPersistentDataContainer()
+            .getOrDefault(argsKey, PersistentDataType.LIST.strings(), Collections.emptyList());
+        Object[] args = new Object[argStrings.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = parseArgument(argStrings.get(i));
+        }
+        return translatable.render(viewer, args);
+    }
+
+    /**
+     * Gets the template of a tagged item, restoring it from the persistent data if it isn't known yet
+     */
+    public TranslatableItem getTemplate(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) {
+            return null;
+        }
+
+        PersistentDataContainer data = item.getItemMeta().getPersistentDataContainer();
+        String id = data.get(idKey, PersistentDataType.STRING);
+        if (id == null) {
+            return null;
+        }
+
+        TranslatableItem known = templates.get(id);
+        if (known != null) {
+            return known;
+        }
+
+        // The arguments belong to the saved item, not to the template
+        ItemStack template = item.clone();
+        ItemMeta meta = template.getItemMeta();
+        meta.getPersistentDataContainer().remove(argsKey);
+        template.setItemMeta(meta);
+
+        List<String> loreKeys = data.getOrDefault(loreKey, PersistentDataType.LIST.strings(), Collections.emptyList());
+        TranslatableItem restored = new TranslatableItem(id, template, data.get(nameKey, PersistentDataType.STRING),
+            loreKeys, argsKey, plugin.getTranslationManager());
+        TranslatableItem previous = templates.putIfAbsent(id, restored);
+        return previous != null ? previous : restored;
+    }
+
+    /**
+     * Checks if an item carries translation tags
+     */
+    public boolean isTranslatable(ItemStack item) {
+        return item != null && item.hasItemMeta()
+            && item.getItemMeta().getPersistentDataContainer().has(idKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Forgets a template and its rendered items
+     */
+    public void remove(TranslatableItem item) {
+        templates.remove(item.getId());
+        templatesByContent.values().remove(item);
+    }
+
+    /**
+     * Restores numbers from their stored text so plural forms keep working
+     */
+    private static Object parseArgument(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            if (value.contains(".")) {
+                return Double.parseDouble(value);
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        return value;
+    }
+
+    /**
+     * What a template is created from
+     */
+    private record TemplateContent(ItemStack item, String nameKey, List<String> loreKeys) {
+    }
+}
@@ -2,6 +2,7 @@ package dev.steyon.translateMCPlugin.listener;
 
 import dev.steyon.translateMCPlugin.TranslateMCPlugin;
 import dev.steyon.translateMCPlugin.gui.LanguageGUI;
+import dev.steyon.translateMCPlugin.profiler.ProfilerSection;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -18,8 +19,29 @@ public class PlayerJoinListener implements Listener {
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
+        long start = plugin.getProfiler().start();
+        try {
+            handleJoin(event);
+        } finally {
+            plugin.getProfiler().stop(ProfilerSection.JOIN_EVENT, start);
+        }
+    }
+
+    private void handleJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
+        // Ask the proxy for the player's language, which may have changed on another server since they were last here
+        if (plugin.getTranslationManager().getLanguageSync() != null) {
+            new BukkitRunnable() {
+                @Override
+                public void run() {
+                    if (player.isOnline()) {
+                        plugin.getTranslationManager().getLanguageSync().requestLanguage(player);
+                    }
+                }
+            }.runTaskLater(plugin, 1L); // Wait until the proxy has registered its channels
+        }
+
         // Check if GUI on first join is enabled
         boolean showGUIOnFirstJoin = plugin.getConfig().getBoolean("features.gui-on-first-join", true);
 
@@ -33,13 +55,20 @@ public class PlayerJoinListener implements Listener {
             new BukkitRunnable() {
                 @Override
                 public void run() {
+                    // The proxy may have answered with a language selected on another server
+                    if (!player.isOnline() || plugin.getTranslationManager().hasPlayerSelectedLanguage(player.getUniqueId())) {
+                        return;
+                    }
+
                     // Send welcome message
                     String welcomeMsg = plugin.getConfig().getString("messages.first-join-welcome",
                         "&7Please select your preferred language!");
                     player.sendMessage(ChatColor.translateAlternateColorCodes('&', welcomeMsg));
 
                     // Open language selector GUI
+                    long start = plugin.getProfiler().start();
                     LanguageGUI.openLanguageSelector(player, plugin);
+                    plugin.getProfiler().stop(ProfilerSection.GUI_OPEN_TASK, start);
                 }
             }.runTaskLater(plugin, 20L); // 1 second delay
         }
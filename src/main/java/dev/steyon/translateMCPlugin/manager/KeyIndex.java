@@ -0,0 +1,159 @@
+package dev.steyon.translateMCPlugin.manager;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable sorted index of the translation keys of one translation table.
+ * Keys are namespaced by dots, e.g. "shop.items.sword", and prefix queries return
+ * views of the sorted array in O(log n) without copying.
+ */
+public final class KeyIndex {
+    private static final KeyIndex EMPTY = new KeyIndex(new String[0]);
+
+    private final String[] keys;
+    private final Set<String> namespaces;
+
+    private KeyIndex(String[] keys) {
+        this.keys = keys;
+
+        Set<String> namespaces = new LinkedHashSet<>();
+        for (String key : keys) {
+            int dot = key.indexOf('.');
+            if (dot > 0) {
+                namespaces.add(key.substring(0, dot));
+            }
+        }
+        this.namespaces = Collections.unmodifiableSet(namespaces);
+    }
+
+    /**
+     * Builds an index over the given keys
+     */
+    public static KeyIndex of(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+        String[] sorted = keys.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return new KeyIndex(sorted);
+    }
+
+    /**
+     * Gets the empty index
+     */
+    public static KeyIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets all keys in sorted order
+     */
+    public Set<String> getKeys() {
+        return new Range(0, keys.length);
+    }
+
+    /**
+     * Gets the keys starting with a prefix in sorted order, e.g. "shop." for the shop namespace
+     */
+    public Set<String> getKeys(String prefix) {
+        if (prefix.isEmpty()) {
+            return getKeys();
+        }
+        int from = lowerBound(prefix);
+        return new Range(from, prefixEnd(prefix, from));
+    }
+
+    /**
+     * Gets the top-level namespaces, the part of each key before its first dot
+     */
+    public Set<String> getNamespaces() {
+        return namespaces;
+    }
+
+    /**
+     * Checks if the index contains a key
+     */
+    public boolean contains(String key) {
+        return Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * Gets the number of keys
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private int lowerBound(String value) {
+        int index = Arrays.binarySearch(keys, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Finds the end of the keys starting with a prefix, from its lower bound.
+     * Searching for prefix + Character.MAX_VALUE instead would cut off keys that continue with that character.
+     */
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Unmodifiable view of a range of the sorted key array
+     */
+    private final class Range extends AbstractSet<String> {
+        private final int from;
+        private final int to;
+
+        Range(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public String next() {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return keys[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String key && Arrays.binarySearch(keys, from, to, key) >= 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.steyon.translateMCPlugin.manager;
+
+import java.util.UUID;
+
+/**
+ * Listener for player language changes
+ */
+@FunctionalInterface
+public interface LanguageChangeListener {
+
+    /**
+     * Called after a player's language changed
+     * @param playerUUID the player
+     * @param oldLanguage the previous language code, or the default language if none was selected
+     * @param newLanguage the new language code
+     */
+    void onLanguageChange(UUID playerUUID, String oldLanguage, String newLanguage);
+}
@@ -0,0 +1,138 @@
+package dev.steyon.translateMCPlugin.manager;
+
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index of the available languages, built once per loaded translation table.
+ * Lookups are case-insensitive and never allocate.
+ */
+public final class LanguageRegistry {
+    private static final LanguageRegistry EMPTY = new LanguageRegistry(Collections.emptyList());
+
+    private final List<TranslationAPI.Language> languages;
+    private final List<String> codes;
+    private final Map<String, TranslationAPI.Language> byCode;
+    private final Map<String, Integer> indices;
+
+    // Prefix index: normalized codes in sorted order and the original codes in the same order
+    private final String[] sortedNormalizedCodes;
+    private final List<String> sortedCodes;
+
+    private LanguageRegistry(List<TranslationAPI.Language> languages) {
+        List<TranslationAPI.Language> languageList = new ArrayList<>(languages.size());
+        List<String> codeList = new ArrayList<>(languages.size());
+        Map<String, TranslationAPI.Language> byCode = new HashMap<>();
+        Map<String, Integer> indices = new HashMap<>();
+
+        for (TranslationAPI.Language language : languages) {
+            if (byCode.putIfAbsent(normalize(language.getCode()), language) == null) {
+                indices.put(normalize(language.getCode()), languageList.size());
+                languageList.add(language);
+                codeList.add(language.getCode());
+            }
+        }
+
+        String[] normalized = byCode.keySet().toArray(new String[0]);
+        Arrays.sort(normalized);
+        String[] sorted = new String[normalized.length];
+        for (int i = 0; i < normalized.length; i++) {
+            sorted[i] = byCode.get(normalized[i]).getCode();
+        }
+
+        this.languages = Collections.unmodifiableList(languageList);
+        this.codes = Collections.unmodifiableList(codeList);
+        this.byCode = byCode;
+        this.indices = indices;
+        this.sortedNormalizedCodes = normalized;
+        this.sortedCodes = Collections.unmodifiableList(Arrays.asList(sorted));
+    }
+
+    /**
+     * Builds a registry for the given languages; duplicate codes keep their first occurrence
+     */
+    public static LanguageRegistry of(List<TranslationAPI.Language> languages) {
+        return languages.isEmpty() ? EMPTY : new LanguageRegistry(languages);
+    }
+
+    /**
+     * Gets the empty registry
+     */
+    public static LanguageRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets a language by code, ignoring case
+     */
+    public TranslationAPI.Language get(String languageCode) {
+        return languageCode != null ? byCode.get(normalize(languageCode)) : null;
+    }
+
+    /**
+     * Gets the position of a language in {@link #getLanguages()}, ignoring case, or -1 if it isn't available
+     */
+    public int indexOf(String languageCode) {
+        Integer index = languageCode != null ? indices.get(normalize(languageCode)) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Checks if a language code is available, ignoring case
+     */
+    public boolean contains(String languageCode) {
+        return get(languageCode) != null;
+    }
+
+    /**
+     * Gets all languages in API order, as an unmodifiable list
+     */
+    public List<TranslationAPI.Language> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Gets all language codes in API order, as an unmodifiable list
+     */
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    /**
+     * Gets the codes starting with a prefix, ignoring case and sorted alphabetically.
+     * The result is an unmodifiable view of the prefix index, no list is copied.
+     */
+    public List<String> getCodesStartingWith(String prefix) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return sortedCodes;
+        }
+
+        int from = lowerBound(normalizedPrefix);
+        int to = lowerBound(normalizedPrefix + Character.MAX_VALUE);
+        return sortedCodes.subList(from, to);
+    }
+
+    /**
+     * Gets the number of languages
+     */
+    public int size() {
+        return languages.size();
+    }
+
+    private int lowerBound(String value) {
+        int index = Arrays.binarySearch(sortedNormalizedCodes, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static String normalize(String languageCode) {
+        return languageCode.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,11 +2,23 @@ package dev.steyon.translateMCPlugin.manager;
 
 import dev.steyon.translateMCPlugin.TranslateMCPlugin;
 import dev.steyon.translateMCPlugin.api.TranslationAPI;
+import dev.steyon.translateMCPlugin.format.MessageFormats;
+import dev.steyon.translateMCPlugin.snapshot.BinarySnapshot;
+import dev.steyon.translateMCPlugin.snapshot.BinarySnapshotWriter;
+import dev.steyon.translateMCPlugin.snapshot.SnapshotFiles;
+import dev.steyon.translateMCPlugin.sync.LanguageSyncService;
+import dev.steyon.translateMCPlugin.telemetry.MissingKeyReporter;
+import dev.steyon.translateMCPlugin.telemetry.MissingKeyTracker;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TranslationManager {
     private final TranslateMCPlugin plugin;
@@ -15,13 +27,42 @@ public class TranslationManager {
     private final long cacheDuration;
 
     // Cache for translations
-    private Map<String, Map<String, TranslationAPI.Translation>> translations;
-    private List<TranslationAPI.Language> availableLanguages;
-    private long lastCacheUpdate;
+    private volatile Map<String, Map<String, TranslationAPI.Translation>> translations;
+    private volatile LanguageRegistry languageRegistry;
+    private volatile MessageFormats messageFormats;
+    private volatile KeyIndex keyIndex;
+    private volatile long deduplicatedBytes;
+    private volatile long lastCacheUpdate;
+    private volatile long lastRefreshDuration;
+
+    // Incremented every time a new translation table is loaded
+    private final AtomicLong snapshotVersion = new AtomicLong();
+
+    // Set while a background refresh is running, so stale lookups don't queue up more of them
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // Memory-mapped snapshot of the last successful fetch, serves lookups while it is set
+    private final SnapshotFiles snapshotFiles;
+    private final boolean snapshotEnabled;
+    private final boolean snapshotCacheValues;
+    private volatile BinarySnapshot snapshot;
 
     // Player language preferences (UUID -> language code)
     private final Map<UUID, String> playerLanguages;
 
+    // Missing key telemetry, null when disabled
+    private final MissingKeyTracker missingKeyTracker;
+    private final MissingKeyReporter missingKeyReporter;
+
+    // Cross-server language sync, null when disabled
+    private LanguageSyncService languageSync;
+
+    // Notified when a player's language changes
+    private final List<LanguageChangeListener> languageChangeListeners = new CopyOnWriteArrayList<>();
+
+    // Notified after a translation table was loaded
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
     public TranslationManager(TranslateMCPlugin plugin) {
         this.plugin = plugin;
         this.defaultLanguage = plugin.getConfig().getString("language.default", "en");
@@ -32,61 +73,412 @@ public class TranslationManager {
         this.api = new TranslationAPI(apiUrl, apiToken, plugin.getLogger());
 
         this.translations = new ConcurrentHashMap<>();
-        this.availableLanguages = new ArrayList<>();
+        this.languageRegistry = LanguageRegistry.empty();
+        this.messageFormats = MessageFormats.lazy();
         this.playerLanguages = new ConcurrentHashMap<>();
         this.lastCacheUpdate = 0;
 
-        // Initial load
-        loadTranslations();
+        if (plugin.getConfig().getBoolean("telemetry.enabled", true)) {
+            this.missingKeyTracker = new MissingKeyTracker(plugin.getConfig().getInt("telemetry.top-keys", 50));
+
+            String endpoint = null;
+            if (plugin.getConfig().getBoolean("telemetry.report-to-api", false)) {
+                endpoint = plugin.getConfig().getString("telemetry.endpoint", "");
+                if (endpoint == null || endpoint.isEmpty()) {
+                    endpoint = apiUrl + "/keys/missing";
+                }
+            }
+            this.missingKeyReporter = new MissingKeyReporter(plugin, api, missingKeyTracker, endpoint);
+            this.missingKeyReporter.start(plugin.getConfig().getLong("telemetry.flush-interval", 300));
+        } else {
+            this.missingKeyTracker = null;
+            this.missingKeyReporter = null;
+        }
+
+        this.snapshotFiles = new SnapshotFiles(plugin.getDataFolder().toPath());
+        this.snapshotEnabled = plugin.getConfig().getBoolean("snapshot.enabled", true);
+        this.snapshotCacheValues = plugin.getConfig().getBoolean("snapshot.cache-values", true);
+
+        if (openSnapshot()) {
+            // Serve the last snapshot right away and fetch the current table in the background
+            this.lastCacheUpdate = System.currentTimeMillis();
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+                verifySnapshot();
+                loadTranslations();
+            });
+        } else {
+            // Nothing to serve yet, so the first load has to block
+            loadTranslations();
+        }
 
         // Start auto-refresh task
         startAutoRefreshTask();
     }
 
     /**
-     * Loads translations from the API
+     * Loads translations from the API.
+     * If the fetch fails, the last good table (or snapshot) keeps being served.
      */
-    public void loadTranslations() {
+    public synchronized void loadTranslations() {
         plugin.getLogger().info("Loading translations from API...");
 
-        TranslationAPI.APIResponse response = api.fetchTranslations();
-        this.translations = response.getTranslations();
-        this.availableLanguages = response.getLanguages();
+        long start = System.nanoTime();
+        TranslationAPI.APIResponse response = fetch();
         this.lastCacheUpdate = System.currentTimeMillis();
 
-        plugin.getLogger().info("Loaded " + translations.size() + " translation keys");
+        if (response.getLanguages().isEmpty()) {
+            // Fetch failed, keep the current table instead of replacing it with an empty one
+            this.lastRefreshDuration = (System.nanoTime() - start) / 1_000_000;
+            BinarySnapshot currentSnapshot = snapshot;
+            if (currentSnapshot != null) {
+                plugin.getLogger().warning("Refresh failed, serving the translation snapshot with " + currentSnapshot.getKeyCount() + " keys");
+            } else if (!translations.isEmpty()) {
+                plugin.getLogger().warning("Refresh failed, keeping the " + translations.size() + " loaded translation keys");
+            }
+            return;
+        }
+
+        MessageFormats compiledFormats = MessageFormats.compile(response.getTranslations());
+        if (!compiledFormats.getErrors().isEmpty()) {
+            plugin.getLogger().warning("Found " + compiledFormats.getErrors().size() + " malformed translation patterns:");
+            for (String error : compiledFormats.getErrors().subList(0, Math.min(10, compiledFormats.getErrors().size()))) {
+                plugin.getLogger().warning("  " + error);
+            }
+        }
+
+        // Serve the values from the mapped snapshot so they stay off-heap, or from the response if there is none
+        BinarySnapshot written = writeSnapshot(response);
+        if (written != null) {
+            this.snapshot = written;
+            this.translations = new ConcurrentHashMap<>();
+        } else {
+            this.translations = response.getTranslations();
+            this.snapshot = null;
+        }
+        this.languageRegistry = LanguageRegistry.of(response.getLanguages());
+        this.messageFormats = compiledFormats;
+        this.keyIndex = KeyIndex.of(response.getTranslations().keySet());
+        // The deduplicated response is dropped once the snapshot serves the values, so nothing is saved then
+        this.deduplicatedBytes = written != null ? 0 : response.getDeduplicatedBytes();
+        this.snapshotVersion.incrementAndGet();
+        this.lastRefreshDuration = (System.nanoTime() - start) / 1_000_000;
+
+        plugin.getLogger().info("Loaded " + response.getTranslations().size() + " translation keys in " + lastRefreshDuration + "ms" +
+            (written != null ? " (served from snapshot)" : ""));
         plugin.getLogger().info("Available languages: " + getAvailableLanguageCodes());
+        if (written == null && response.getDeduplicatedStrings() > 0) {
+            plugin.getLogger().info("Deduplicated " + response.getDeduplicatedStrings() + " strings, saving about " +
+                response.getDeduplicatedBytes() / 1024 + " KB of heap");
+        }
+        notifyReload();
     }
 
     /**
-     * Gets a translation for a specific key and language
-     * Falls back to English if translation not found
+     * Reloads the table on an async thread unless a background refresh is already running
      */
-    public String getTranslation(String key, String languageCode) {
-        // Check if cache needs refresh
-        if (System.currentTimeMillis() - lastCacheUpdate > cacheDuration) {
-            loadTranslations();
+    public void refreshAsync() {
+        if (!plugin.isEnabled() || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                // Checked again here, since another load may have finished in the meantime
+                if (System.currentTimeMillis() - lastCacheUpdate > cacheDuration) {
+                    loadTranslations();
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private void notifyReload() {
+        for (Runnable listener : reloadListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Registers a listener that runs after every load of the translation table, on the loading thread
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Fetches the catalog, in parallel shards if configured and the shards are known
+     */
+    private TranslationAPI.APIResponse fetch() {
+        if (!plugin.getConfig().getBoolean("api.parallel.enabled", false)) {
+            return api.fetchTranslations();
+        }
+
+        boolean byNamespace = "namespaces".equalsIgnoreCase(plugin.getConfig().getString("api.parallel.mode", "languages"));
+        LanguageRegistry registry = languageRegistry;
+        List<TranslationAPI.Shard> shards = byNamespace ? namespaceShards() : languageShards(registry);
+
+        // Shards are only known after the first full fetch, or can't cover the whole catalog
+        if (shards.isEmpty()) {
+            return api.fetchTranslations();
+        }
+
+        int concurrency = plugin.getConfig().getInt("api.parallel.concurrency", 4);
+        TranslationAPI.APIResponse response = api.fetchTranslations(shards, concurrency, this::currentTable);
+
+        // Every shard lists all languages, so a language added on the server shows up here without any shard for it
+        if (!byNamespace) {
+            for (TranslationAPI.Language language : response.getLanguages()) {
+                if (!registry.contains(language.getCode())) {
+                    plugin.getLogger().info("Language " + language.getCode() + " was added, fetching the full catalog");
+                    TranslationAPI.APIResponse full = api.fetchTranslations();
+                    return full.getLanguages().isEmpty() ? response : full;
+                }
+            }
+        }
+        return response;
+    }
+
+    private List<TranslationAPI.Shard> languageShards(LanguageRegistry registry) {
+        List<TranslationAPI.Shard> shards = new ArrayList<>();
+        for (TranslationAPI.Language language : registry.getLanguages()) {
+            shards.add(TranslationAPI.Shard.language(language.getCode()));
+        }
+        return shards;
+    }
+
+    /**
+     * Gets the configured namespace shards, or none if they miss keys of the current table.
+     * The API has no shard for the keys outside all namespaces, so those would be dropped by a sharded fetch.
+     */
+    private List<TranslationAPI.Shard> namespaceShards() {
+        List<String> namespaces = plugin.getConfig().getStringList("api.parallel.namespaces");
+        KeyIndex index = getKeyIndex();
+        if (namespaces.isEmpty() || index.size() == 0) {
+            return Collections.emptyList();
+        }
+
+        int uncovered = 0;
+        Set<String> missingNamespaces = new LinkedHashSet<>();
+        for (String key : index.getKeys()) {
+            boolean covered = false;
+            for (String namespace : namespaces) {
+                if (key.startsWith(namespace)) {
+                    covered = true;
+                    break;
+                }
+            }
+            if (!covered) {
+                uncovered++;
+                int dot = key.indexOf('.');
+                missingNamespaces.add(dot > 0 ? key.substring(0, dot + 1) : key);
+            }
+        }
+        if (uncovered > 0) {
+            List<String> examples = new ArrayList<>(missingNamespaces).subList(0, Math.min(5, missingNamespaces.size()));
+            plugin.getLogger().warning("api.parallel.namespaces misses " + uncovered + " of the " + index.size() +
+                " loaded keys, fetching the full catalog instead. Add these namespaces: " + examples +
+                (missingNamespaces.size() > examples.size() ? " and " + (missingNamespaces.size() - examples.size()) + " more" : ""));
+            return Collections.emptyList();
+        }
+
+        List<TranslationAPI.Shard> shards = new ArrayList<>();
+        for (String namespace : namespaces) {
+            shards.add(TranslationAPI.Shard.namespace(namespace));
+        }
+        return shards;
+    }
+
+    /**
+     * Gets the table that is currently served, decoding the snapshot if it serves the values
+     */
+    private TranslationAPI.APIResponse currentTable() {
+        BinarySnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            return currentSnapshot.toResponse();
+        }
+        return new TranslationAPI.APIResponse(translations, languageRegistry.getLanguages());
+    }
+
+    /**
+     * Opens the binary snapshot written after the last successful fetch, if there is one
+     * @return true if a snapshot was opened
+     */
+    private boolean openSnapshot() {
+        if (!snapshotEnabled) {
+            return false;
+        }
+
+        List<Path> files;
+        try {
+            files = snapshotFiles.list();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to list translation snapshots: " + e.getMessage());
+            return false;
+        }
+
+        // Fall back to an older snapshot if the newest one cannot be opened
+        for (Path file : files) {
+            try {
+                BinarySnapshot opened = BinarySnapshot.open(file, snapshotCacheValues);
+                this.snapshot = opened;
+                this.languageRegistry = LanguageRegistry.of(opened.getLanguages());
+                this.messageFormats = MessageFormats.lazy();
+                this.keyIndex = null;
+                this.snapshotVersion.incrementAndGet();
+                plugin.getLogger().info("Opened translation snapshot " + file.getFileName() + " with " + opened.getKeyCount() + " keys");
+                return true;
+            } catch (Exception e) {
+                plugin.getLogger().warning("Failed to open translation snapshot " + file.getFileName() + ": " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks the checksum of the opened snapshot and indexes its keys, or stops serving it if it is corrupted
+     */
+    private synchronized void verifySnapshot() {
+        BinarySnapshot opened = snapshot;
+        if (opened == null) {
+            return;
+        }
+
+        try {
+            opened.verify();
+            opened.buildIndex();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Discarding translation snapshot: " + e.getMessage());
+            this.snapshot = null;
+            this.languageRegistry = LanguageRegistry.empty();
+            this.messageFormats = MessageFormats.lazy();
+            this.keyIndex = null;
+            this.snapshotVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writes the binary snapshot for a successful fetch to a new file and maps it.
+     * The previous file may still be mapped, which prevents replacing it on Windows, so it is only deleted afterwards.
+     * @return the mapped snapshot, or null if snapshots are disabled or it could not be written
+     */
+    private BinarySnapshot writeSnapshot(TranslationAPI.APIResponse response) {
+        if (!snapshotEnabled) {
+            return null;
+        }
+
+        try {
+            Path file = snapshotFiles.next();
+            BinarySnapshotWriter.write(file, response);
+            BinarySnapshot written = BinarySnapshot.open(file, snapshotCacheValues);
+            // Index the keys here, off the main thread, before lookups are served from it
+            written.buildIndex();
+            snapshotFiles.deleteAllExcept(file);
+            return written;
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to write translation snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Looks up a non-empty translated value, or returns null if there is none
+     */
+    private String lookup(String key, String languageCode) {
+        BinarySnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            return currentSnapshot.getValue(key, languageCode);
         }
 
         Map<String, TranslationAPI.Translation> keyTranslations = translations.get(key);
         if (keyTranslations == null) {
-            return key; // Return key itself if not found
+            return null;
         }
 
-        // Try to get translation in requested language
         TranslationAPI.Translation translation = keyTranslations.get(languageCode);
-        if (translation != null && !translation.getValue().isEmpty()) {
-            return translation.getValue();
+        return translation != null ? translation.getValue() : null;
+    }
+
+    /**
+     * Gets a translation for a specific key and language
+     * Falls back to English if translation not found
+     */
+    public String getTranslation(String key, String languageCode) {
+        return resolve(key, languageCode).value();
+    }
+
+    /**
+     * Looks up a translation with the fallbacks of {@link #getTranslation(String, String)},
+     * keeping the language the value was taken from
+     */
+    private Resolved resolve(String key, String languageCode) {
+        // Refresh a stale table in the background, lookups keep serving the current one meanwhile
+        if (System.currentTimeMillis() - lastCacheUpdate > cacheDuration) {
+            refreshAsync();
+        }
+
+        // Try to get translation in requested language
+        String value = lookup(key, languageCode);
+        if (value != null && !value.isEmpty()) {
+            return new Resolved(value, languageCode);
         }
 
         // Fallback to default language (English)
-        translation = keyTranslations.get(defaultLanguage);
-        if (translation != null && !translation.getValue().isEmpty()) {
-            return translation.getValue();
+        if (!languageCode.equals(defaultLanguage)) {
+            value = lookup(key, defaultLanguage);
+            if (value != null && !value.isEmpty()) {
+                recordMiss(key, languageCode, MissingKeyTracker.Kind.FALLBACK);
+                return new Resolved(value, defaultLanguage);
+            }
         }
 
         // If still not found, return the key itself
-        return key;
+        recordMiss(key, languageCode, MissingKeyTracker.Kind.MISSING);
+        return new Resolved(key, languageCode);
+    }
+
+    private void recordMiss(String key, String languageCode, MissingKeyTracker.Kind kind) {
+        if (missingKeyTracker != null) {
+            missingKeyTracker.record(key, languageCode, kind);
+        }
+    }
+
+    /**
+     * Gets the missing key tracker, or null if telemetry is disabled
+     */
+    public MissingKeyTracker getMissingKeyTracker() {
+        return missingKeyTracker;
+    }
+
+    /**
+     * Stops background tasks and writes the final missing key report.
+     * Unsent misses are not sent to the API here, so shutting down never waits on the network.
+     */
+    public void shutdown() {
+        if (missingKeyReporter != null) {
+            missingKeyReporter.stop();
+            missingKeyReporter.writeReport();
+        }
+    }
+
+    /**
+     * Gets a translation and formats its arguments, including plural and select forms.
+     * See {@link dev.steyon.translateMCPlugin.format.MessagePattern} for the syntax.
+     */
+    public String format(String key, String languageCode, Object... args) {
+        Resolved resolved = resolve(key, languageCode);
+        if (args == null || args.length == 0 || resolved.value().indexOf('{') < 0) {
+            return resolved.value();
+        }
+
+        // Plural rules and number formats follow the language the value was actually taken from
+        return messageFormats.format(resolved.languageCode(), key, resolved.value(), args);
+    }
+
+    /**
+     * Gets a translation for a player and formats its arguments
+     */
+    public String format(Player player, String key, Object... args) {
+        return format(key, getPlayerLanguage(player), args);
     }
 
     /**
@@ -117,9 +509,88 @@ public class TranslationManager {
      */
     public void setPlayerLanguage(UUID playerUUID, String languageCode) {
         if (isLanguageAvailable(languageCode)) {
-            playerLanguages.put(playerUUID, languageCode);
+            String previous = playerLanguages.put(playerUUID, languageCode);
             // TODO: Save to database or file for persistence
+            notifyLanguageChange(playerUUID, previous, languageCode);
+
+            if (languageSync != null) {
+                languageSync.publish(playerUUID, languageCode);
+            }
+        }
+    }
+
+    /**
+     * Applies a language change received from another server without publishing it again.
+     * Changes for players who are not on this server are ignored, they look their language up when they join.
+     */
+    public void applySyncedLanguage(UUID playerUUID, String languageCode) {
+        if (plugin.getServer().getPlayer(playerUUID) == null) {
+            return;
         }
+
+        if (isLanguageAvailable(languageCode)) {
+            String previous = playerLanguages.put(playerUUID, languageCode);
+            notifyLanguageChange(playerUUID, previous, languageCode);
+        }
+    }
+
+    private void notifyLanguageChange(UUID playerUUID, String previous, String languageCode) {
+        String oldLanguage = previous != null ? previous : defaultLanguage;
+        if (oldLanguage.equals(languageCode)) {
+            return;
+        }
+        for (LanguageChangeListener listener : languageChangeListeners) {
+            listener.onLanguageChange(playerUUID, oldLanguage, languageCode);
+        }
+    }
+
+    /**
+     * Registers a listener that is notified when a player's language changes
+     */
+    public void addLanguageChangeListener(LanguageChangeListener listener) {
+        languageChangeListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a language change listener
+     */
+    public void removeLanguageChangeListener(LanguageChangeListener listener) {
+        languageChangeListeners.remove(listener);
+    }
+
+    /**
+     * Gets how long the last refresh took, including fetching, compiling and writing the snapshot, in milliseconds
+     */
+    public long getLastRefreshDuration() {
+        return lastRefreshDuration;
+    }
+
+    /**
+     * Checks if the values are served from the memory-mapped snapshot instead of the heap
+     */
+    public boolean isServingSnapshot() {
+        return snapshot != null;
+    }
+
+    /**
+     * Gets the version of the loaded translation table, which changes on every load
+     */
+    public long getSnapshotVersion() {
+        return snapshotVersion.get();
+    }
+
+    /**
+     * Sets the cross-server language sync, or null to disable it
+     */
+    public void setLanguageSync(LanguageSyncService languageSync) {
+        this.languageSync = languageSync;
+    }
+
+    /**
+     * Gets the cross-server language sync, or null if it is disabled
+     */
+    public LanguageSyncService getLanguageSync() {
+        return languageSync;
     }
 
     /**
@@ -137,45 +608,38 @@ public class TranslationManager {
     }
 
     /**
-     * Gets all available languages from the API
+     * Gets all available languages from the API, as an unmodifiable list
      */
     public List<TranslationAPI.Language> getAvailableLanguages() {
-        return new ArrayList<>(availableLanguages);
+        return languageRegistry.getLanguages();
     }
 
     /**
-     * Gets all available language codes
+     * Gets all available language codes, as an unmodifiable list
      */
     public List<String> getAvailableLanguageCodes() {
-        List<String> codes = new ArrayList<>();
-        for (TranslationAPI.Language language : availableLanguages) {
-            codes.add(language.getCode());
-        }
-        return codes;
+        return languageRegistry.getCodes();
+    }
+
+    /**
+     * Gets the index of the available languages
+     */
+    public LanguageRegistry getLanguageRegistry() {
+        return languageRegistry;
     }
 
     /**
      * Checks if a language code is available
      */
     public boolean isLanguageAvailable(String languageCode) {
-        for (TranslationAPI.Language language : availableLanguages) {
-            if (language.getCode().equalsIgnoreCase(languageCode)) {
-                return true;
-            }
-        }
-        return false;
+        return languageRegistry.contains(languageCode);
     }
 
     /**
      * Gets a Language object by code
      */
     public TranslationAPI.Language getLanguage(String languageCode) {
-        for (TranslationAPI.Language language : availableLanguages) {
-            if (language.getCode().equalsIgnoreCase(languageCode)) {
-                return language;
-            }
-        }
-        return null;
+        return languageRegistry.get(languageCode);
     }
 
     /**
@@ -201,9 +665,13 @@ public class TranslationManager {
         new BukkitRunnable() {
             @Override
             public void run() {
-                if (System.currentTimeMillis() - lastCacheUpdate > cacheDuration) {
-                    plugin.getLogger().info("Auto-refreshing translations cache...");
-                    loadTranslations();
+                if (System.currentTimeMillis() - lastCacheUpdate > cacheDuration && refreshing.compareAndSet(false, true)) {
+                    try {
+                        plugin.getLogger().info("Auto-refreshing translations cache...");
+                        loadTranslations();
+                    } finally {
+                        refreshing.set(false);
+                    }
                 }
             }
         }.runTaskTimerAsynchronously(plugin, refreshInterval, refreshInterval);
@@ -217,9 +685,46 @@ public class TranslationManager {
     }
 
     /**
-     * Gets all translation keys
+     * Gets all translation keys in sorted order, as an immutable set
      */
     public Set<String> getAllKeys() {
-        return translations.keySet();
+        return getKeyIndex().getKeys();
+    }
+
+    /**
+     * Gets the translation keys starting with a prefix, e.g. "shop.", in sorted order, as an immutable set
+     */
+    public Set<String> getKeys(String prefix) {
+        return getKeyIndex().getKeys(prefix);
+    }
+
+    /**
+     * Gets the sorted index of the translation keys
+     */
+    public KeyIndex getKeyIndex() {
+        KeyIndex index = keyIndex;
+        if (index == null) {
+            // Built on first use when serving a snapshot, to keep opening it cheap
+            BinarySnapshot currentSnapshot = snapshot;
+            index = currentSnapshot != null ? KeyIndex.of(currentSnapshot.getKeys()) : KeyIndex.empty();
+            if (snapshot == currentSnapshot) {
+                keyIndex = index;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the estimated heap saved by deduplicating strings in the loaded translation table, in bytes.
+     * Zero while the snapshot serves the values, since the deduplicated table isn't kept then.
+     */
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes;
+    }
+
+    /**
+     * Translation value and the language it was taken from
+     */
+    private record Resolved(String value, String languageCode) {
     }
 }
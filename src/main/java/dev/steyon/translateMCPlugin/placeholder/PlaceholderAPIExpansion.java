@@ -1,6 +1,7 @@
 package dev.steyon.translateMCPlugin.placeholder;
 
 import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import dev.steyon.translateMCPlugin.profiler.ProfilerSection;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -51,6 +52,15 @@ public class PlaceholderAPIExpansion extends PlaceholderExpansion {
      */
     @Override
     public String onPlaceholderRequest(Player player, @NotNull String params) {
+        long start = plugin.getProfiler().start();
+        try {
+            return resolve(player, params);
+        } finally {
+            plugin.getProfiler().stop(ProfilerSection.PLACEHOLDER, start);
+        }
+    }
+
+    private String resolve(Player player, String params) {
         if (player == null) {
             return "";
         }
@@ -0,0 +1,26 @@
+package dev.steyon.translateMCPlugin.profiler;
+
+/**
+ * Plugin entry points timed by the {@link TickProfiler}
+ */
+public enum ProfilerSection {
+    COMMAND("Command"),
+    TAB_COMPLETE("Tab complete"),
+    PLACEHOLDER("Placeholder"),
+    JOIN_EVENT("Join event"),
+    QUIT_EVENT("Quit event"),
+    GUI_CLICK("GUI click"),
+    GUI_OPEN_TASK("GUI open task"),
+    DISPLAY_TASK("Display task"),
+    LANGUAGE_CHANGE("Language change");
+
+    private final String displayName;
+
+    ProfilerSection(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,231 @@
+package dev.steyon.translateMCPlugin.profiler;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times the plugin's work on the main thread and accumulates it per tick.
+ *
+ * Entry points wrap their work in {@link #start()} and {@link #stop(ProfilerSection, long)}.
+ * When disabled, {@link #start()} is a single volatile read and {@link #stop(ProfilerSection, long)} returns immediately.
+ * Entry points can nest, e.g. a language change inside a command; the inner time counts towards the inner
+ * section only and is subtracted from the outer one, so every nanosecond is counted once.
+ * Ticks in which the plugin exceeds its budget are logged with a per-section breakdown,
+ * and the last minute of ticks is kept for {@code /translate profile}.
+ */
+public class TickProfiler implements Listener {
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final int WINDOW = 1200; // One minute of ticks
+    private static final int MAX_DEPTH = 16;
+    private static final ProfilerSection[] SECTIONS = ProfilerSection.values();
+
+    private final TranslateMCPlugin plugin;
+    private volatile boolean enabled;
+    private long budgetNanos;
+    private long logCooldownMillis;
+
+    // Current tick, only touched from the main thread
+    private final long[] tickNanos = new long[SECTIONS.length];
+    private final int[] tickCalls = new int[SECTIONS.length];
+
+    // Open entry points, with the time spent in entry points nested inside each of them
+    private final long[] nestedNanos = new long[MAX_DEPTH];
+    private int depth;
+
+    // Rolling window of finished ticks
+    private final long[][] windowNanos = new long[SECTIONS.length][WINDOW];
+    private final int[][] windowCalls = new int[SECTIONS.length][WINDOW];
+    private final long[] windowTotals = new long[WINDOW];
+    private int windowIndex;
+    private int windowSize;
+    private long overBudgetTicks;
+    private long lastLog;
+
+    public TickProfiler(TranslateMCPlugin plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    /**
+     * Reads the profiler settings from the config
+     */
+    public void reload() {
+        this.budgetNanos = (long) (plugin.getConfig().getDouble("profiler.tick-budget-ms", 2.0) * 1_000_000);
+        this.logCooldownMillis = plugin.getConfig().getLong("profiler.log-cooldown", 30) * 1000L;
+        setEnabled(plugin.getConfig().getBoolean("profiler.enabled", false));
+    }
+
+    /**
+     * Enables or disables profiling; enabling starts a fresh report
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            reset();
+        }
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing an entry point
+     * @return the start time to pass to {@link #stop(ProfilerSection, long)}
+     */
+    public long start() {
+        // Work done off the main thread does not count towards the tick and is ignored
+        if (!enabled || !Bukkit.isPrimaryThread() || depth >= MAX_DEPTH) {
+            return DISABLED;
+        }
+        nestedNanos[depth++] = 0;
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing an entry point and adds the elapsed time, minus that of nested entry points, to the current tick
+     */
+    public void stop(ProfilerSection section, long start) {
+        if (start == DISABLED || depth == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        depth--;
+        tickNanos[section.ordinal()] += elapsed - nestedNanos[depth];
+        tickCalls[section.ordinal()]++;
+        if (depth > 0) {
+            nestedNanos[depth - 1] += elapsed;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        // No entry point is open between ticks, drop any that was never stopped
+        depth = 0;
+        if (!enabled) {
+            return;
+        }
+
+        long total = 0;
+        for (int i = 0; i < SECTIONS.length; i++) {
+            total += tickNanos[i];
+            windowNanos[i][windowIndex] = tickNanos[i];
+            windowCalls[i][windowIndex] = tickCalls[i];
+        }
+        windowTotals[windowIndex] = total;
+
+        if (total > budgetNanos) {
+            overBudgetTicks++;
+            long now = System.currentTimeMillis();
+            if (now - lastLog >= logCooldownMillis) {
+                lastLog = now;
+                plugin.getLogger().warning("Tick " + event.getTickNumber() + " exceeded the budget: " +
+                    millis(total) + "ms > " + millis(budgetNanos) + "ms (" + breakdown() + ")");
+            }
+        }
+
+        windowIndex = (windowIndex + 1) % WINDOW;
+        windowSize = Math.min(windowSize + 1, WINDOW);
+        Arrays.fill(tickNanos, 0);
+        Arrays.fill(tickCalls, 0);
+    }
+
+    /**
+     * Builds the report of the last minute of ticks, one line per entry
+     */
+    public List<String> getReport() {
+        List<String> lines = new ArrayList<>();
+        if (windowSize == 0) {
+            return lines;
+        }
+
+        lines.add("Last " + windowSize + " ticks: avg " + millis(getAverageTickNanos()) + "ms, max " +
+            millis(getMaxTickNanos()) + "ms, budget " + millis(budgetNanos) + "ms, " + overBudgetTicks + " ticks over budget");
+
+        for (int i = 0; i < SECTIONS.length; i++) {
+            long sectionTotal = 0;
+            long sectionMax = 0;
+            long calls = 0;
+            for (int t = 0; t < windowSize; t++) {
+                sectionTotal += windowNanos[i][t];
+                sectionMax = Math.max(sectionMax, windowNanos[i][t]);
+                calls += windowCalls[i][t];
+            }
+            if (calls > 0) {
+                lines.add(SECTIONS[i].getDisplayName() + ": avg " + millis(sectionTotal / windowSize) +
+                    "ms/tick, max " + millis(sectionMax) + "ms, " + calls + " calls");
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Gets the average time the plugin spent on the main thread per tick in the last minute, in nanoseconds
+     */
+    public long getAverageTickNanos() {
+        if (windowSize == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int t = 0; t < windowSize; t++) {
+            total += windowTotals[t];
+        }
+        return total / windowSize;
+    }
+
+    /**
+     * Gets the longest time the plugin spent on the main thread in a single tick in the last minute, in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        long max = 0;
+        for (int t = 0; t < windowSize; t++) {
+            max = Math.max(max, windowTotals[t]);
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of ticks over budget since profiling was enabled
+     */
+    public long getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    private String breakdown() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < SECTIONS.length; i++) {
+            if (tickCalls[i] == 0) {
+                continue;
+            }
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(SECTIONS[i].getDisplayName()).append(' ')
+                .append(millis(tickNanos[i])).append("ms x").append(tickCalls[i]);
+        }
+        return builder.toString();
+    }
+
+    private void reset() {
+        depth = 0;
+        Arrays.fill(tickNanos, 0);
+        Arrays.fill(tickCalls, 0);
+        Arrays.fill(windowTotals, 0);
+        windowIndex = 0;
+        windowSize = 0;
+        overBudgetTicks = 0;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,380 @@
+package dev.steyon.translateMCPlugin.snapshot;
+
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view of a translation table stored in the binary snapshot format.
+ *
+ * The file is memory-mapped and never parsed as a whole: keys are binary searched
+ * directly in the mapped bytes and values are only decoded when they are requested.
+ * Opening only validates the header and table sizes; {@link #verify()} checks the checksum
+ * and {@link #buildIndex()} replaces the binary search with an on-heap key index.
+ * An unverified snapshot may be served, so every string index and offset is range-checked on access
+ * and entries that are out of range are treated as absent.
+ *
+ * Layout (little endian):
+ * <pre>
+ * header   magic, format version, created at, body CRC32, string count, language count, key count
+ * strings  (string count + 1) offsets into the string data
+ * langs    language count entries of (code, name, is source, minecraft head)
+ * keys     key count string indices, sorted by UTF-8 bytes
+ * values   key count * language count entries of (value, status), -1 when absent
+ * data     UTF-8 string data
+ * </pre>
+ */
+public final class BinarySnapshot {
+    static final int MAGIC = 0x53434D54; // "TMCS"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int LANGUAGE_ENTRY_INTS = 4;
+    private static final int CORRUPTED = Integer.MIN_VALUE;
+
+    private final ByteBuffer buffer;
+    private final long createdAt;
+    private final int expectedCrc;
+    private final int stringCount;
+    private final int languageCount;
+    private final int keyCount;
+
+    private final int offsetsStart;
+    private final int languagesStart;
+    private final int keysStart;
+    private final int valuesStart;
+    private final int dataStart;
+    private final int dataSize;
+
+    private final List<TranslationAPI.Language> languages;
+    private final Map<String, Integer> languageColumns;
+    private final String[] stringCache;
+    private volatile Map<String, Integer> rowIndex;
+
+    private BinarySnapshot(ByteBuffer buffer, boolean cacheStrings) throws IOException {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int size = buffer.capacity();
+
+        if (size < HEADER_SIZE) {
+            throw new IOException("Snapshot is truncated (" + size + " bytes)");
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a translation snapshot");
+        }
+        int version = buffer.getInt(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version: " + version);
+        }
+
+        this.createdAt = buffer.getLong(8);
+        this.expectedCrc = buffer.getInt(16);
+        this.stringCount = buffer.getInt(20);
+        this.languageCount = buffer.getInt(24);
+        this.keyCount = buffer.getInt(28);
+
+        if (stringCount < 0 || languageCount < 0 || keyCount < 0) {
+            throw new IOException("Snapshot header is corrupted");
+        }
+
+        long offsetsStart = HEADER_SIZE;
+        long languagesStart = offsetsStart + ((long) stringCount + 1) * Integer.BYTES;
+        long keysStart = languagesStart + (long) languageCount * LANGUAGE_ENTRY_INTS * Integer.BYTES;
+        long valuesStart = keysStart + (long) keyCount * Integer.BYTES;
+        long dataStart = valuesStart + (long) keyCount * languageCount * 2 * Integer.BYTES;
+        if (dataStart > size) {
+            throw new IOException("Snapshot is truncated");
+        }
+
+        this.offsetsStart = (int) offsetsStart;
+        this.languagesStart = (int) languagesStart;
+        this.keysStart = (int) keysStart;
+        this.valuesStart = (int) valuesStart;
+        this.dataStart = (int) dataStart;
+        this.dataSize = size - this.dataStart;
+
+        if (dataStart + buffer.getInt(this.languagesStart - Integer.BYTES) != size) {
+            throw new IOException("Snapshot size does not match its string table");
+        }
+
+        this.stringCache = cacheStrings ? new String[stringCount] : null;
+
+        List<TranslationAPI.Language> languages = new ArrayList<>(languageCount);
+        Map<String, Integer> languageColumns = new HashMap<>();
+        for (int i = 0; i < languageCount; i++) {
+            int base = this.languagesStart + i * LANGUAGE_ENTRY_INTS * Integer.BYTES;
+            String code = string(buffer.getInt(base));
+            String name = string(buffer.getInt(base + 4));
+            if (code == null || name == null) {
+                throw new IOException("Snapshot language table is corrupted");
+            }
+            boolean isSource = buffer.getInt(base + 8) == 1;
+            int headIndex = buffer.getInt(base + 12);
+            languages.add(new TranslationAPI.Language(code, name, isSource, headIndex >= 0 ? string(headIndex) : null));
+            languageColumns.putIfAbsent(code, i);
+        }
+        this.languages = Collections.unmodifiableList(languages);
+        this.languageColumns = languageColumns;
+    }
+
+    /**
+     * Memory-maps and validates a snapshot file
+     * @param cacheStrings whether decoded strings should be kept on-heap after first access
+     */
+    public static BinarySnapshot open(Path path, boolean cacheStrings) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large: " + size + " bytes");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new BinarySnapshot(mapped, cacheStrings);
+        }
+    }
+
+    /**
+     * Reads a snapshot from an in-memory buffer
+     */
+    public static BinarySnapshot wrap(byte[] data, boolean cacheStrings) throws IOException {
+        return new BinarySnapshot(ByteBuffer.wrap(data), cacheStrings);
+    }
+
+    /**
+     * Checks the body against the checksum in the header.
+     * This reads every page of the file, so it should run off the main thread.
+     */
+    public void verify() throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_SIZE).limit(buffer.capacity()));
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+    }
+
+    /**
+     * Builds an on-heap index from key to row, so lookups no longer encode the key and binary search the mapped bytes.
+     * This decodes every key, so it should run off the main thread; until it is built, lookups use the binary search.
+     */
+    public void buildIndex() {
+        if (rowIndex != null) {
+            return;
+        }
+        Map<String, Integer> index = new HashMap<>(Math.max(16, (int) (keyCount / 0.75f) + 1));
+        for (int row = 0; row < keyCount; row++) {
+            String key = string(buffer.getInt(keysStart + row * Integer.BYTES));
+            if (key != null) {
+                index.putIfAbsent(key, row);
+            }
+        }
+        this.rowIndex = index;
+    }
+
+    /**
+     * Checks if the key index has been built
+     */
+    public boolean isIndexed() {
+        return rowIndex != null;
+    }
+
+    /**
+     * Gets the translated value for a key and language, or null if there is none
+     */
+    public String getValue(String key, String languageCode) {
+        int cell = findCell(key, languageCode);
+        if (cell < 0) {
+            return null;
+        }
+        return string(buffer.getInt(cell));
+    }
+
+    /**
+     * Gets the translation for a key and language, or null if there is none
+     */
+    public TranslationAPI.Translation getTranslation(String key, String languageCode) {
+        int cell = findCell(key, languageCode);
+        if (cell < 0) {
+            return null;
+        }
+        String value = string(buffer.getInt(cell));
+        if (value == null) {
+            return null;
+        }
+        return new TranslationAPI.Translation(value, string(buffer.getInt(cell + 4)));
+    }
+
+    /**
+     * Checks if the snapshot contains the given key
+     */
+    public boolean containsKey(String key) {
+        return findRow(key) >= 0;
+    }
+
+    /**
+     * Gets all keys in the snapshot, in sorted order.
+     * This decodes every key, so it should not be used on hot paths.
+     */
+    public List<String> getKeys() {
+        List<String> keys = new ArrayList<>(keyCount);
+        for (int row = 0; row < keyCount; row++) {
+            String key = string(buffer.getInt(keysStart + row * Integer.BYTES));
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Decodes the whole snapshot into an API response.
+     * This puts every string on the heap, so it is only meant for rare paths such as keeping the data of failed shards.
+     */
+    public TranslationAPI.APIResponse toResponse() {
+        Map<String, Map<String, TranslationAPI.Translation>> translations = new HashMap<>();
+        for (int row = 0; row < keyCount; row++) {
+            String key = string(buffer.getInt(keysStart + row * Integer.BYTES));
+            if (key == null) {
+                continue;
+            }
+            Map<String, TranslationAPI.Translation> values = new HashMap<>();
+            for (int column = 0; column < languageCount; column++) {
+                int cell = valuesStart + (row * languageCount + column) * 2 * Integer.BYTES;
+                String value = string(buffer.getInt(cell));
+                if (value != null) {
+                    values.put(languages.get(column).getCode(),
+                        new TranslationAPI.Translation(value, string(buffer.getInt(cell + 4))));
+                }
+            }
+            translations.put(key, values);
+        }
+        return new TranslationAPI.APIResponse(translations, new ArrayList<>(languages));
+    }
+
+    /**
+     * Gets the languages stored in the snapshot
+     */
+    public List<TranslationAPI.Language> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Gets the number of keys in the snapshot
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Gets the time at which the snapshot was written
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    private int findCell(String key, String languageCode) {
+        Integer column = languageColumns.get(languageCode);
+        if (column == null) {
+            return -1;
+        }
+        int row = findRow(key);
+        if (row < 0) {
+            return -1;
+        }
+        return valuesStart + (row * languageCount + column) * 2 * Integer.BYTES;
+    }
+
+    private int findRow(String key) {
+        Map<String, Integer> index = rowIndex;
+        if (index != null) {
+            Integer row = index.get(key);
+            return row != null ? row : -1;
+        }
+        return findRow(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Binary searches the sorted key table, comparing against the mapped bytes directly
+     */
+    private int findRow(byte[] key) {
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(buffer.getInt(keysStart + mid * Integer.BYTES), key);
+            if (cmp == CORRUPTED) {
+                return -1;
+            } else if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares a stored string with the given bytes, or returns {@link #CORRUPTED} if it is out of range
+     */
+    private int compare(int stringIndex, byte[] other) {
+        if (stringIndex < 0 || stringIndex >= stringCount) {
+            return CORRUPTED;
+        }
+        int start = buffer.getInt(offsetsStart + stringIndex * Integer.BYTES);
+        int end = buffer.getInt(offsetsStart + (stringIndex + 1) * Integer.BYTES);
+        if (start < 0 || end < start || end > dataSize) {
+            return CORRUPTED;
+        }
+
+        int length = end - start;
+        int common = Math.min(length, other.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(dataStart + start + i), other[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - other.length;
+    }
+
+    /**
+     * Decodes a stored string, or returns null if the index is absent (-1) or it is out of range
+     */
+    private String string(int index) {
+        if (index < 0 || index >= stringCount) {
+            return null;
+        }
+        // Strings are immutable, so racing threads at worst decode the same string twice
+        if (stringCache != null) {
+            String cached = stringCache[index];
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        int start = buffer.getInt(offsetsStart + index * Integer.BYTES);
+        int end = buffer.getInt(offsetsStart + (index + 1) * Integer.BYTES);
+        if (start < 0 || end < start || end > dataSize) {
+            return null;
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.get(dataStart + start, bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+
+        if (stringCache != null) {
+            stringCache[index] = value;
+        }
+        return value;
+    }
+}
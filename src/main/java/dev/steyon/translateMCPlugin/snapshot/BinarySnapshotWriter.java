@@ -0,0 +1,180 @@
+package dev.steyon.translateMCPlugin.snapshot;
+
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a translation table in the binary snapshot format read by {@link BinarySnapshot}
+ */
+public final class BinarySnapshotWriter {
+
+    private BinarySnapshotWriter() {
+    }
+
+    /**
+     * Writes the given API response to the target file.
+     * The file is written to a temporary sibling first and then moved into place,
+     * so a crash while writing never leaves a half-written snapshot behind.
+     */
+    public static void write(Path target, TranslationAPI.APIResponse response) throws IOException {
+        byte[] data = encode(response);
+
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Encodes the given API response into the binary snapshot format
+     */
+    public static byte[] encode(TranslationAPI.APIResponse response) {
+        StringPool pool = new StringPool();
+        List<TranslationAPI.Language> languages = response.getLanguages();
+        Map<String, Map<String, TranslationAPI.Translation>> translations = response.getTranslations();
+
+        // Languages
+        int languageCount = languages.size();
+        int[] languageTable = new int[languageCount * BinarySnapshot.LANGUAGE_ENTRY_INTS];
+        Map<String, Integer> languageColumns = new HashMap<>();
+        for (int i = 0; i < languageCount; i++) {
+            TranslationAPI.Language language = languages.get(i);
+            int base = i * BinarySnapshot.LANGUAGE_ENTRY_INTS;
+            languageTable[base] = pool.add(language.getCode());
+            languageTable[base + 1] = pool.add(language.getName());
+            languageTable[base + 2] = language.isSource() ? 1 : 0;
+            languageTable[base + 3] = language.getMinecraftHead() != null ? pool.add(language.getMinecraftHead()) : -1;
+            languageColumns.putIfAbsent(language.getCode(), i);
+        }
+
+        // Keys, sorted by their UTF-8 bytes so the reader can binary search without decoding
+        String[] keys = translations.keySet().toArray(new String[0]);
+        byte[][] keyBytes = new byte[keys.length][];
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keyBytes[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(keyBytes[a], keyBytes[b]));
+
+        int keyCount = keys.length;
+        int[] keyTable = new int[keyCount];
+        int[] valueTable = new int[keyCount * languageCount * 2];
+        Arrays.fill(valueTable, -1);
+
+        for (int row = 0; row < keyCount; row++) {
+            String key = keys[order[row]];
+            keyTable[row] = pool.add(key);
+
+            for (Map.Entry<String, TranslationAPI.Translation> entry : translations.get(key).entrySet()) {
+                Integer column = languageColumns.get(entry.getKey());
+                if (column == null) {
+                    continue; // Translation for a language that isn't listed
+                }
+                int cell = (row * languageCount + column) * 2;
+                valueTable[cell] = pool.add(entry.getValue().getValue());
+                valueTable[cell + 1] = pool.add(entry.getValue().getStatus());
+            }
+        }
+
+        // Layout
+        int stringCount = pool.size();
+        int bodySize = (stringCount + 1) * Integer.BYTES
+                + languageTable.length * Integer.BYTES
+                + keyTable.length * Integer.BYTES
+                + valueTable.length * Integer.BYTES
+                + pool.byteSize();
+
+        ByteBuffer buffer = ByteBuffer.allocate(BinarySnapshot.HEADER_SIZE + bodySize).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(BinarySnapshot.HEADER_SIZE);
+
+        int offset = 0;
+        for (byte[] bytes : pool.bytes) {
+            buffer.putInt(offset);
+            offset += bytes.length;
+        }
+        buffer.putInt(offset);
+
+        for (int value : languageTable) buffer.putInt(value);
+        for (int value : keyTable) buffer.putInt(value);
+        for (int value : valueTable) buffer.putInt(value);
+        for (byte[] bytes : pool.bytes) buffer.put(bytes);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), BinarySnapshot.HEADER_SIZE, bodySize);
+
+        buffer.position(0);
+        buffer.putInt(BinarySnapshot.MAGIC);
+        buffer.putInt(BinarySnapshot.FORMAT_VERSION);
+        buffer.putLong(System.currentTimeMillis());
+        buffer.putInt((int) crc.getValue());
+        buffer.putInt(stringCount);
+        buffer.putInt(languageCount);
+        buffer.putInt(keyCount);
+
+        return buffer.array();
+    }
+
+    /**
+     * Deduplicating pool of UTF-8 encoded strings
+     */
+    private static final class StringPool {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<byte[]> bytes = new ArrayList<>();
+        private int byteSize;
+
+        int add(String value) {
+            Integer index = indices.get(value);
+            if (index != null) {
+                return index;
+            }
+
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            int newIndex = bytes.size();
+            bytes.add(encoded);
+            byteSize += encoded.length;
+            indices.put(value, newIndex);
+            return newIndex;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        int byteSize() {
+            return byteSize;
+        }
+    }
+}
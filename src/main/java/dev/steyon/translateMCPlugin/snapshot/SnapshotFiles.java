@@ -0,0 +1,87 @@
+package dev.steyon.translateMCPlugin.snapshot;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Numbered snapshot files in a directory, e.g. translations-12.snapshot.
+ *
+ * Every snapshot is written to a new file instead of replacing the current one, because a file that is
+ * still memory-mapped cannot be replaced or deleted on Windows. Older files are deleted once that succeeds.
+ */
+public final class SnapshotFiles {
+    private static final String PREFIX = "translations-";
+    private static final String SUFFIX = ".snapshot";
+
+    private final Path directory;
+
+    public SnapshotFiles(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Lists the snapshot files, newest first
+     */
+    public List<Path> list() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : stream) {
+                if (generation(file) >= 0) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(SnapshotFiles::generation).reversed());
+        return files;
+    }
+
+    /**
+     * Gets the path for a new snapshot, numbered after every existing one
+     */
+    public Path next() throws IOException {
+        List<Path> files = list();
+        long generation = files.isEmpty() ? 1 : generation(files.get(0)) + 1;
+        return directory.resolve(PREFIX + generation + SUFFIX);
+    }
+
+    /**
+     * Deletes every snapshot file except the given one.
+     * Files that are still mapped cannot be deleted on Windows; they are left for the next call.
+     */
+    public void deleteAllExcept(Path keep) throws IOException {
+        for (Path file : list()) {
+            if (file.equals(keep)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Still mapped by a snapshot that hasn't been collected yet
+            }
+        }
+    }
+
+    /**
+     * Gets the number of a snapshot file, or -1 if the name doesn't belong to a snapshot
+     */
+    static long generation(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.steyon.translateMCPlugin.sync;
+
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import dev.steyon.translateMCPlugin.sync.protocol.LanguageSyncCodec;
+import dev.steyon.translateMCPlugin.sync.protocol.LanguageSyncMessage;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Backend side of the language sync protocol.
+ * Publishes local language changes to the proxy and applies changes made on other servers.
+ */
+public class LanguageSyncService implements PluginMessageListener {
+    private final TranslateMCPlugin plugin;
+
+    public LanguageSyncService(TranslateMCPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Registers the sync channel
+     */
+    public void register() {
+        Bukkit.getMessenger().registerOutgoingPluginChannel(plugin, LanguageSyncCodec.CHANNEL);
+        Bukkit.getMessenger().registerIncomingPluginChannel(plugin, LanguageSyncCodec.CHANNEL, this);
+    }
+
+    /**
+     * Unregisters the sync channel
+     */
+    public void unregister() {
+        Bukkit.getMessenger().unregisterOutgoingPluginChannel(plugin, LanguageSyncCodec.CHANNEL);
+        Bukkit.getMessenger().unregisterIncomingPluginChannel(plugin, LanguageSyncCodec.CHANNEL, this);
+    }
+
+    /**
+     * Publishes a local language change to the proxy
+     */
+    public void publish(UUID playerUUID, String languageCode) {
+        send(playerUUID, LanguageSyncMessage.set(playerUUID, languageCode));
+    }
+
+    /**
+     * Asks the proxy for a player's language; the answer is applied when it arrives
+     */
+    public void requestLanguage(Player player) {
+        send(player.getUniqueId(), LanguageSyncMessage.lookup(player.getUniqueId()));
+    }
+
+    private void send(UUID playerUUID, LanguageSyncMessage message) {
+        // Plugin messages travel over a player connection, prefer the player the message is about
+        Player carrier = Bukkit.getPlayer(playerUUID);
+        if (carrier == null) {
+            carrier = Bukkit.getOnlinePlayers().stream().findFirst().orElse(null);
+        }
+        if (carrier == null) {
+            return;
+        }
+
+        carrier.sendPluginMessage(plugin, LanguageSyncCodec.CHANNEL, LanguageSyncCodec.encode(message));
+    }
+
+    @Override
+    public void onPluginMessageReceived(@NotNull String channel, @NotNull Player player, byte @NotNull [] data) {
+        if (!LanguageSyncCodec.CHANNEL.equals(channel)) {
+            return;
+        }
+
+        LanguageSyncMessage message;
+        try {
+            message = LanguageSyncCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Received invalid language sync message: " + e.getMessage());
+            return;
+        }
+
+        if (message.getType() == LanguageSyncMessage.Type.LOOKUP || message.getLanguageCode() == null) {
+            return;
+        }
+
+        plugin.getTranslationManager().applySyncedLanguage(message.getPlayerUUID(), message.getLanguageCode());
+    }
+}
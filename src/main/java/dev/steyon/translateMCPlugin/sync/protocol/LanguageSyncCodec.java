@@ -0,0 +1,84 @@
+package dev.steyon.translateMCPlugin.sync.protocol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary encoding for {@link LanguageSyncMessage}s.
+ *
+ * Every message is a type byte followed by the player UUID as two longs.
+ * SET and RESULT append the language code as a length byte and its UTF-8 bytes,
+ * where a length of 0 means "unknown". A SET is therefore at most 273 bytes
+ * and typically 20.
+ */
+public final class LanguageSyncCodec {
+    /** The plugin messaging channel used by the backends and the proxy */
+    public static final String CHANNEL = "translatemc:sync";
+
+    private static final int MAX_CODE_LENGTH = 255;
+
+    private LanguageSyncCodec() {
+    }
+
+    /**
+     * Encodes a message
+     */
+    public static byte[] encode(LanguageSyncMessage message) {
+        byte[] code = new byte[0];
+        if (message.getType() != LanguageSyncMessage.Type.LOOKUP && message.getLanguageCode() != null) {
+            code = message.getLanguageCode().getBytes(StandardCharsets.UTF_8);
+            if (code.length == 0 || code.length > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException("Invalid language code: " + message.getLanguageCode());
+            }
+        }
+
+        boolean hasCode = message.getType() != LanguageSyncMessage.Type.LOOKUP;
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16 + (hasCode ? 1 + code.length : 0));
+        buffer.put(message.getType().getId());
+        buffer.putLong(message.getPlayerUUID().getMostSignificantBits());
+        buffer.putLong(message.getPlayerUUID().getLeastSignificantBits());
+        if (hasCode) {
+            buffer.put((byte) code.length);
+            buffer.put(code);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a message
+     * @throws IllegalArgumentException if the data is not a valid message
+     */
+    public static LanguageSyncMessage decode(byte[] data) {
+        if (data == null || data.length < 17) {
+            throw new IllegalArgumentException("Sync message is too short");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        LanguageSyncMessage.Type type = LanguageSyncMessage.Type.fromId(buffer.get());
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown sync message type: " + data[0]);
+        }
+
+        UUID playerUUID = new UUID(buffer.getLong(), buffer.getLong());
+        if (type == LanguageSyncMessage.Type.LOOKUP) {
+            return new LanguageSyncMessage(type, playerUUID, null);
+        }
+
+        if (!buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Sync message is missing its language code");
+        }
+        int length = buffer.get() & 0xFF;
+        if (buffer.remaining() != length) {
+            throw new IllegalArgumentException("Sync message has an invalid language code length");
+        }
+
+        String languageCode = null;
+        if (length > 0) {
+            languageCode = new String(data, buffer.position(), length, StandardCharsets.UTF_8);
+        } else if (type == LanguageSyncMessage.Type.SET) {
+            throw new IllegalArgumentException("Sync SET message without a language code");
+        }
+        return new LanguageSyncMessage(type, playerUUID, languageCode);
+    }
+}
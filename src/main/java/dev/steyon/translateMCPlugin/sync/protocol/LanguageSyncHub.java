@@ -0,0 +1,57 @@
+package dev.steyon.translateMCPlugin.sync.protocol;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Proxy-side sync logic holding the authoritative player language map.
+ * It has no platform dependencies, so the proxy plugin only has to adapt its servers to {@link SyncTarget}.
+ */
+public final class LanguageSyncHub {
+    private final Map<UUID, String> playerLanguages = new ConcurrentHashMap<>();
+
+    /**
+     * Handles a message received from a backend
+     * @param data the encoded message
+     * @param origin the backend the message came from
+     * @param servers all backends known to the proxy; the origin is skipped when broadcasting
+     * @throws IllegalArgumentException if the data is not a valid message
+     */
+    public void handle(byte[] data, SyncTarget origin, Iterable<? extends SyncTarget> servers) {
+        LanguageSyncMessage message = LanguageSyncCodec.decode(data);
+
+        switch (message.getType()) {
+            case SET -> {
+                String previous = playerLanguages.put(message.getPlayerUUID(), message.getLanguageCode());
+                if (message.getLanguageCode().equals(previous)) {
+                    return; // Nothing changed, don't broadcast
+                }
+                for (SyncTarget server : servers) {
+                    if (!server.equals(origin)) {
+                        server.send(data);
+                    }
+                }
+            }
+            case LOOKUP -> origin.send(LanguageSyncCodec.encode(LanguageSyncMessage.result(
+                    message.getPlayerUUID(), playerLanguages.get(message.getPlayerUUID()))));
+            case RESULT -> {
+                // Results are only sent by the proxy, ignore them
+            }
+        }
+    }
+
+    /**
+     * Gets the known language of a player, or null if they haven't selected one
+     */
+    public String getPlayerLanguage(UUID playerUUID) {
+        return playerLanguages.get(playerUUID);
+    }
+
+    /**
+     * Gets the number of players with a known language
+     */
+    public int size() {
+        return playerLanguages.size();
+    }
+}
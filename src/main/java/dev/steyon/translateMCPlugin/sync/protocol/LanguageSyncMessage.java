@@ -0,0 +1,74 @@
+package dev.steyon.translateMCPlugin.sync.protocol;
+
+import java.util.UUID;
+
+/**
+ * A single message exchanged over the language sync channel
+ */
+public final class LanguageSyncMessage {
+
+    /**
+     * Message types, identified on the wire by their id byte
+     */
+    public enum Type {
+        /** A player's language changed; sent by a backend and broadcast by the proxy */
+        SET((byte) 1),
+        /** A backend asks the proxy for a player's language */
+        LOOKUP((byte) 2),
+        /** The proxy answers a lookup; the language code is null if it is unknown */
+        RESULT((byte) 3);
+
+        private final byte id;
+
+        Type(byte id) {
+            this.id = id;
+        }
+
+        public byte getId() {
+            return id;
+        }
+
+        public static Type fromId(byte id) {
+            for (Type type : values()) {
+                if (type.id == id) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Type type;
+    private final UUID playerUUID;
+    private final String languageCode;
+
+    public LanguageSyncMessage(Type type, UUID playerUUID, String languageCode) {
+        this.type = type;
+        this.playerUUID = playerUUID;
+        this.languageCode = languageCode;
+    }
+
+    public static LanguageSyncMessage set(UUID playerUUID, String languageCode) {
+        return new LanguageSyncMessage(Type.SET, playerUUID, languageCode);
+    }
+
+    public static LanguageSyncMessage lookup(UUID playerUUID) {
+        return new LanguageSyncMessage(Type.LOOKUP, playerUUID, null);
+    }
+
+    public static LanguageSyncMessage result(UUID playerUUID, String languageCode) {
+        return new LanguageSyncMessage(Type.RESULT, playerUUID, languageCode);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public String getLanguageCode() {
+        return languageCode;
+    }
+}
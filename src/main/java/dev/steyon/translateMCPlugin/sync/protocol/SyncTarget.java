@@ -0,0 +1,12 @@
+package dev.steyon.translateMCPlugin.sync.protocol;
+
+/**
+ * Something sync messages can be sent to, such as a backend server behind the proxy
+ */
+public interface SyncTarget {
+
+    /**
+     * Sends an encoded sync message
+     */
+    void send(byte[] data);
+}
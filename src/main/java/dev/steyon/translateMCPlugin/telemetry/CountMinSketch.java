@@ -0,0 +1,79 @@
+package dev.steyon.translateMCPlugin.telemetry;
+
+/**
+ * Fixed-size count-min sketch over precomputed 32-bit hashes.
+ * Estimates never under-count; over-counting is bounded by the sketch width.
+ * Not thread-safe, callers synchronize.
+ */
+public final class CountMinSketch {
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F, 0x165667B1, 0xD3A2646C};
+
+    private final int depth;
+    private final int mask;
+    private final long[][] counts;
+
+    /**
+     * @param depth number of hash rows, at most 6
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Sketch depth must be between 1 and " + SEEDS.length);
+        }
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counts = new long[depth][size];
+    }
+
+    /**
+     * Increments the counters for a hash and returns the new estimate
+     */
+    public long add(int hash) {
+        return add(hash, 1);
+    }
+
+    /**
+     * Adds an amount to the counters for a hash and returns the new estimate
+     */
+    public long add(int hash, long amount) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long[] counters = counts[row];
+            int index = index(hash, row);
+            long value = counters[index] += amount;
+            if (value < estimate) {
+                estimate = value;
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Gets the estimated count for a hash
+     */
+    public long estimate(int hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Resets all counters
+     */
+    public void clear() {
+        for (long[] counters : counts) {
+            java.util.Arrays.fill(counters, 0);
+        }
+    }
+
+    private int index(int hash, int row) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & mask;
+    }
+}
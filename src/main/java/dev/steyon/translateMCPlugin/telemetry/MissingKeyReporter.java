@@ -0,0 +1,127 @@
+package dev.steyon.translateMCPlugin.telemetry;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Periodically writes the tracked misses to a report file and optionally sends them to the API
+ */
+public class MissingKeyReporter {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final TranslateMCPlugin plugin;
+    private final TranslationAPI api;
+    private final MissingKeyTracker tracker;
+    private final File reportFile;
+    private final String endpoint;
+    private BukkitTask task;
+
+    /**
+     * @param endpoint API endpoint for batch reports, or null to only write the report file
+     */
+    public MissingKeyReporter(TranslateMCPlugin plugin, TranslationAPI api, MissingKeyTracker tracker, String endpoint) {
+        this.plugin = plugin;
+        this.api = api;
+        this.tracker = tracker;
+        this.reportFile = new File(plugin.getDataFolder(), "missing-keys.json");
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Starts flushing asynchronously at the given interval
+     */
+    public void start(long intervalSeconds) {
+        long intervalTicks = Math.max(1, intervalSeconds) * 20L;
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }.runTaskTimerAsynchronously(plugin, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Stops the flush task
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Writes the report file and sends unreported misses to the API
+     */
+    public synchronized void flush() {
+        List<MissingKeyTracker.MissingKey> misses = writeReport();
+        if (endpoint == null) {
+            return;
+        }
+
+        JsonArray batch = toJson(misses, true);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        JsonObject body = new JsonObject();
+        body.add("keys", batch);
+        // Only the counts in this batch are marked, misses recorded while it was sent go with the next one
+        if (api.reportMissingKeys(endpoint, body.toString())) {
+            tracker.markReported(misses);
+        }
+    }
+
+    /**
+     * Writes the report file without contacting the API, e.g. while the server shuts down
+     * @return the misses that were written
+     */
+    public synchronized List<MissingKeyTracker.MissingKey> writeReport() {
+        List<MissingKeyTracker.MissingKey> misses = tracker.getTopMisses();
+
+        JsonObject report = new JsonObject();
+        report.addProperty("generated_at", System.currentTimeMillis());
+        report.addProperty("total_misses", tracker.getTotalMisses());
+        report.addProperty("total_fallbacks", tracker.getTotalFallbacks());
+        report.add("keys", toJson(misses, false));
+
+        try {
+            Files.createDirectories(reportFile.getParentFile().toPath());
+            Files.writeString(reportFile.toPath(), GSON.toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write missing key report: " + e.getMessage());
+        }
+        return misses;
+    }
+
+    private JsonArray toJson(List<MissingKeyTracker.MissingKey> misses, boolean unreportedOnly) {
+        JsonArray array = new JsonArray();
+        for (MissingKeyTracker.MissingKey miss : misses) {
+            long count = unreportedOnly ? miss.getUnreported() : miss.getCount();
+            if (count <= 0) {
+                continue;
+            }
+
+            JsonObject entry = new JsonObject();
+            entry.addProperty("key", miss.getKey());
+            entry.addProperty("language", miss.getLanguage());
+            entry.addProperty("kind", miss.getKind().name().toLowerCase(Locale.ROOT));
+            entry.addProperty("count", count);
+            array.add(entry);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,248 @@
+package dev.steyon.translateMCPlugin.telemetry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tracks translation misses in bounded memory.
+ *
+ * Every miss is counted in a {@link CountMinSketch}, and the most frequent ones are
+ * kept in a small min-heap. Repeated misses only update existing counters and entries,
+ * so the miss path does not allocate.
+ */
+public class MissingKeyTracker {
+
+    /**
+     * Kind of miss
+     */
+    public enum Kind {
+        /** The key has no translation in the requested or the default language */
+        MISSING,
+        /** The key was missing in the requested language and the default language was used */
+        FALLBACK
+    }
+
+    private final CountMinSketch sketch;
+    // Misses already reported, so an entry that is evicted and tracked again doesn't report them twice
+    private final CountMinSketch reportedSketch;
+    private final Entry[] heap;
+    private int size;
+    private long totalMisses;
+    private long totalFallbacks;
+
+    public MissingKeyTracker(int topK) {
+        this.sketch = new CountMinSketch(4, 4096);
+        this.reportedSketch = new CountMinSketch(4, 4096);
+        this.heap = new Entry[Math.max(1, topK)];
+    }
+
+    /**
+     * Records a miss for a key in a language
+     */
+    public synchronized void record(String key, String languageCode, Kind kind) {
+        if (kind == Kind.MISSING) {
+            totalMisses++;
+        } else {
+            totalFallbacks++;
+        }
+
+        int hash = hash(key, languageCode, kind);
+        long estimate = sketch.add(hash);
+
+        for (int i = 0; i < size; i++) {
+            Entry entry = heap[i];
+            if (entry.hash == hash && entry.kind == kind && entry.key.equals(key) && entry.language.equals(languageCode)) {
+                entry.count = estimate;
+                siftDown(i);
+                return;
+            }
+        }
+
+        // The estimate includes misses from before the key was tracked, some of which may have been reported
+        long reported = Math.min(reportedSketch.estimate(hash), estimate);
+        if (size < heap.length) {
+            heap[size] = new Entry(key, languageCode, kind, hash, estimate, reported);
+            siftUp(size++);
+        } else if (estimate > heap[0].count) {
+            // Reuse the evicted entry instead of allocating a new one
+            heap[0].set(key, languageCode, kind, hash, estimate, reported);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Gets the tracked misses, most frequent first
+     */
+    public synchronized List<MissingKey> getTopMisses() {
+        List<MissingKey> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Entry entry = heap[i];
+            result.add(new MissingKey(entry.key, entry.language, entry.kind, entry.count, entry.count - entry.reported));
+        }
+        result.sort(Comparator.comparingLong(MissingKey::getCount).reversed());
+        return result;
+    }
+
+    /**
+     * Marks the misses that were sent as reported.
+     * Only the counts in the given list are marked, so misses recorded while the report was being sent stay unreported.
+     * @param sent the misses from {@link #getTopMisses()} that were sent
+     */
+    public synchronized void markReported(List<MissingKey> sent) {
+        for (MissingKey miss : sent) {
+            if (miss.getUnreported() <= 0) {
+                continue;
+            }
+
+            int hash = hash(miss.getKey(), miss.getLanguage(), miss.getKind());
+            reportedSketch.add(hash, miss.getUnreported());
+            for (int i = 0; i < size; i++) {
+                Entry entry = heap[i];
+                if (entry.hash == hash && entry.kind == miss.getKind() && entry.key.equals(miss.getKey())
+                        && entry.language.equals(miss.getLanguage())) {
+                    entry.reported = Math.max(entry.reported, Math.min(miss.getCount(), entry.count));
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the total number of misses recorded
+     */
+    public synchronized long getTotalMisses() {
+        return totalMisses;
+    }
+
+    /**
+     * Gets the total number of fallbacks to the default language recorded
+     */
+    public synchronized long getTotalFallbacks() {
+        return totalFallbacks;
+    }
+
+    /**
+     * Clears all recorded misses
+     */
+    public synchronized void clear() {
+        sketch.clear();
+        reportedSketch.clear();
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+        totalMisses = 0;
+        totalFallbacks = 0;
+    }
+
+    private static int hash(String key, String languageCode, Kind kind) {
+        return (key.hashCode() * 31 + languageCode.hashCode()) * 31 + kind.ordinal();
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent].count <= heap[index].count) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < size && heap[left].count < heap[smallest].count) {
+                smallest = left;
+            }
+            if (right < size && heap[right].count < heap[smallest].count) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Entry temp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = temp;
+    }
+
+    /**
+     * Mutable heap entry
+     */
+    private static final class Entry {
+        private String key;
+        private String language;
+        private Kind kind;
+        private int hash;
+        private long count;
+        private long reported;
+
+        Entry(String key, String language, Kind kind, int hash, long count, long reported) {
+            set(key, language, kind, hash, count, reported);
+        }
+
+        void set(String key, String language, Kind kind, int hash, long count, long reported) {
+            this.key = key;
+            this.language = language;
+            this.kind = kind;
+            this.hash = hash;
+            this.count = count;
+            this.reported = reported;
+        }
+    }
+
+    /**
+     * Immutable view of a tracked miss
+     */
+    public static class MissingKey {
+        private final String key;
+        private final String language;
+        private final Kind kind;
+        private final long count;
+        private final long unreported;
+
+        public MissingKey(String key, String language, Kind kind, long count, long unreported) {
+            this.key = key;
+            this.language = language;
+            this.kind = kind;
+            this.count = count;
+            this.unreported = unreported;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Gets the estimated number of misses since tracking started
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the estimated number of misses since the last report
+         */
+        public long getUnreported() {
+            return unreported;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.steyon.translateMCPlugin.api;
+
+import dev.steyon.translateMCPlugin.snapshot.BinarySnapshot;
+import dev.steyon.translateMCPlugin.snapshot.BinarySnapshotWriter;
+import dev.steyon.translateMCPlugin.testing.TestCatalog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares loading a catalog through the Gson path of {@link TranslationAPI#parseAPIResponse}
+ * with opening the same catalog as a binary snapshot, and lookups in the heap table with lookups in the snapshot.
+ *
+ * Run with: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class CatalogLoadBenchmark {
+    private static final int LANGUAGES = 8;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final int LOOKUPS = 1_000;
+
+    // Keeps the JIT from dropping lookups whose result is unused
+    private static volatile String sink;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    void compareGsonWithSnapshot(int keyCount) throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(keyCount, LANGUAGES);
+        String json = TestCatalog.toJson(catalog);
+        Path file = Files.createTempFile("translations", ".snapshot");
+        BinarySnapshotWriter.write(file, catalog);
+        TranslationAPI api = new TranslationAPI("http://localhost", null, Logger.getLogger("benchmark"));
+
+        try {
+            long gson = measure(() -> {
+                TranslationAPI.APIResponse response = api.parseAPIResponse(json);
+                assertEquals(keyCount, response.getTranslations().size());
+            });
+            long open = measure(() -> {
+                BinarySnapshot snapshot = BinarySnapshot.open(file, true);
+                assertEquals(keyCount, snapshot.getKeyCount());
+            });
+            long openAndRead = measure(() -> {
+                BinarySnapshot snapshot = BinarySnapshot.open(file, true);
+                for (int i = 0; i < LOOKUPS; i++) {
+                    snapshot.getValue(TestCatalog.key((i * 7919) % keyCount), "de");
+                }
+            });
+            long verify = measure(() -> BinarySnapshot.open(file, false).verify());
+
+            // Lookups as TranslationManager does them, with keys that already exist as strings
+            String[] keys = new String[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                keys[i] = TestCatalog.key((i * 7919) % keyCount);
+            }
+            BinarySnapshot searched = BinarySnapshot.open(file, true);
+            BinarySnapshot indexed = BinarySnapshot.open(file, true);
+            indexed.buildIndex();
+            long heapLookups = measure(() -> {
+                for (String key : keys) {
+                    sink = catalog.getTranslations().get(key).get("de").getValue();
+                }
+            });
+            long searchedLookups = measure(() -> {
+                for (String key : keys) {
+                    sink = searched.getValue(key, "de");
+                }
+            });
+            long indexedLookups = measure(() -> {
+                for (String key : keys) {
+                    sink = indexed.getValue(key, "de");
+                }
+            });
+            long index = measure(() -> BinarySnapshot.open(file, true).buildIndex());
+
+            System.out.printf("%,d keys x %d languages (%,d KB JSON, %,d KB snapshot)%n",
+                keyCount, LANGUAGES, json.length() / 1024, Files.size(file) / 1024);
+            System.out.printf("  Gson parse:                 %,10d us%n", gson / 1000);
+            System.out.printf("  Snapshot open:              %,10d us%n", open / 1000);
+            System.out.printf("  Snapshot open + %,d reads: %,10d us%n", LOOKUPS, openAndRead / 1000);
+            System.out.printf("  Snapshot checksum:          %,10d us%n", verify / 1000);
+            System.out.printf("  Snapshot key index:         %,10d us%n", index / 1000);
+            System.out.printf("  %,d lookups, heap table:    %,10d ns/lookup%n", LOOKUPS, heapLookups / LOOKUPS);
+            System.out.printf("  %,d lookups, binary search: %,10d ns/lookup%n", LOOKUPS, searchedLookups / LOOKUPS);
+            System.out.printf("  %,d lookups, key index:     %,10d ns/lookup%n", LOOKUPS, indexedLookups / LOOKUPS);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Gets the median duration of a task in nanoseconds
+     */
+    private static long measure(Task task) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+
+        long[] durations = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        return durations[ITERATIONS / 2];
+    }
+
+    private interface Task {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,177 @@
+package dev.steyon.translateMCPlugin.api;
+
+import dev.steyon.translateMCPlugin.testing.FakeTranslationServer;
+import dev.steyon.translateMCPlugin.testing.TestCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedFetchTest {
+    private static final int KEYS = 400;
+    private static final int LANGUAGES = 6;
+
+    private TranslationAPI.APIResponse catalog;
+    private FakeTranslationServer server;
+    private TranslationAPI api;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        catalog = TestCatalog.generate(KEYS, LANGUAGES);
+        server = new FakeTranslationServer(catalog);
+        Logger logger = Logger.getLogger("ShardedFetchTest");
+        logger.setLevel(Level.OFF);
+        api = new TranslationAPI(server.getBaseUrl(), null, logger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void languageShardsMergeIntoTheFullCatalog() {
+        TranslationAPI.APIResponse response = api.fetchTranslations(languageShards(), 4, () -> fail("nothing failed"));
+
+        assertSameContent(catalog, response);
+        assertEquals(LANGUAGES, server.getRequestCount());
+    }
+
+    @Test
+    void namespaceShardsMergeIntoTheFullCatalog() {
+        List<TranslationAPI.Shard> shards = new ArrayList<>();
+        for (int i = 0; i < TestCatalog.NAMESPACES; i++) {
+            shards.add(TranslationAPI.Shard.namespace("ns" + i + "."));
+        }
+
+        TranslationAPI.APIResponse response = api.fetchTranslations(shards, 4, () -> fail("nothing failed"));
+
+        assertSameContent(catalog, response);
+    }
+
+    @Test
+    void shardsAreFetchedConcurrently() {
+        server.setLatency(200);
+
+        long start = System.nanoTime();
+        TranslationAPI.APIResponse serial = api.fetchTranslations(languageShards(), 1, () -> null);
+        long serialMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(1, server.getMaxConcurrentRequests());
+
+        start = System.nanoTime();
+        TranslationAPI.APIResponse parallel = api.fetchTranslations(languageShards(), LANGUAGES, () -> null);
+        long parallelMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("%d shards with 200 ms latency: serial %d ms, parallel %d ms%n", LANGUAGES, serialMillis, parallelMillis);
+        assertSameContent(catalog, serial);
+        assertSameContent(catalog, parallel);
+        assertTrue(serialMillis >= LANGUAGES * 200L, "serial took " + serialMillis + " ms");
+        assertTrue(parallelMillis < serialMillis / 2, "parallel took " + parallelMillis + " ms, serial " + serialMillis + " ms");
+    }
+
+    @Test
+    void concurrencyIsLimited() {
+        server.setLatency(50);
+
+        api.fetchTranslations(languageShards(), 2, () -> null);
+
+        assertTrue(server.getMaxConcurrentRequests() <= 2, "max " + server.getMaxConcurrentRequests());
+    }
+
+    @Test
+    void failedShardKeepsItsPreviousData() {
+        TranslationAPI.APIResponse previous = TestCatalog.generate(KEYS, LANGUAGES);
+        String key = TestCatalog.key(5);
+        previous.getTranslations().get(key).put("de", new TranslationAPI.Translation("old value", "approved"));
+        previous.getTranslations().get(key).put("fr", new TranslationAPI.Translation("old value", "approved"));
+        server.failQuery("language=de");
+
+        TranslationAPI.APIResponse response = api.fetchTranslations(languageShards(), 4, () -> previous);
+
+        assertEquals(KEYS, response.getTranslations().size());
+        assertEquals(LANGUAGES, response.getLanguages().size());
+        assertEquals("old value", response.getTranslations().get(key).get("de").getValue());
+        assertEquals(catalog.getTranslations().get(key).get("fr").getValue(), response.getTranslations().get(key).get("fr").getValue());
+    }
+
+    @Test
+    void previousDataIsOnlyResolvedWhenAShardFails() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<TranslationAPI.APIResponse> previous = () -> {
+            calls.incrementAndGet();
+            return catalog;
+        };
+
+        api.fetchTranslations(languageShards(), 4, previous);
+        assertEquals(0, calls.get());
+
+        server.failQuery("language=en");
+        api.fetchTranslations(languageShards(), 4, previous);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void allShardsFailingFailsTheFetch() {
+        server.setFailureRate(1.0);
+
+        TranslationAPI.APIResponse response = api.fetchTranslations(languageShards(), 4, () -> catalog);
+
+        assertTrue(response.getLanguages().isEmpty());
+        assertTrue(response.getTranslations().isEmpty());
+    }
+
+    @Test
+    void failedShardWithoutPreviousDataFailsTheFetch() {
+        server.failQuery("language=de");
+        TranslationAPI.APIResponse empty = new TranslationAPI.APIResponse(new HashMap<>(), catalog.getLanguages());
+
+        TranslationAPI.APIResponse response = api.fetchTranslations(languageShards(), 4, () -> empty);
+
+        assertTrue(response.getLanguages().isEmpty());
+        assertTrue(response.getTranslations().isEmpty());
+        assertTrue(api.fetchTranslations(languageShards(), 4, () -> null).getLanguages().isEmpty());
+    }
+
+    @Test
+    void randomFailuresNeverLoseKeys() {
+        server.setFailureRate(0.5);
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            TranslationAPI.APIResponse response = api.fetchTranslations(languageShards(), 4, () -> catalog);
+            if (!response.getLanguages().isEmpty()) {
+                assertSameContent(catalog, response);
+            }
+        }
+    }
+
+    private List<TranslationAPI.Shard> languageShards() {
+        List<TranslationAPI.Shard> shards = new ArrayList<>();
+        for (TranslationAPI.Language language : catalog.getLanguages()) {
+            shards.add(TranslationAPI.Shard.language(language.getCode()));
+        }
+        return shards;
+    }
+
+    private static void assertSameContent(TranslationAPI.APIResponse expected, TranslationAPI.APIResponse actual) {
+        assertEquals(expected.getLanguages().size(), actual.getLanguages().size());
+        assertEquals(expected.getTranslations().keySet(), actual.getTranslations().keySet());
+        for (Map.Entry<String, Map<String, TranslationAPI.Translation>> entry : expected.getTranslations().entrySet()) {
+            Map<String, TranslationAPI.Translation> values = actual.getTranslations().get(entry.getKey());
+            assertEquals(entry.getValue().keySet(), values.keySet(), entry.getKey());
+            for (Map.Entry<String, TranslationAPI.Translation> value : entry.getValue().entrySet()) {
+                assertEquals(value.getValue().getValue(), values.get(value.getKey()).getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.steyon.translateMCPlugin.format;
+
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageFormatsTest {
+    private static final String COINS_EN = "{0, plural, one {# coin} other {# coins}}";
+    private static final String COINS_FR = "{0, plural, one {# pièce} other {# pièces}}";
+
+    private static TranslationAPI.Translation approved(String value) {
+        return new TranslationAPI.Translation(value, "approved");
+    }
+
+    @Test
+    void compiledPatternsUseTheRulesOfTheirLanguage() {
+        MessageFormats formats = MessageFormats.compile(Map.of(
+            "coins", Map.of("en", approved(COINS_EN), "fr", approved(COINS_FR))));
+
+        assertTrue(formats.getErrors().isEmpty());
+        assertEquals("0 coins", formats.format("en", "coins", COINS_EN, new Object[]{0}));
+        assertEquals("0 pièce", formats.format("fr", "coins", COINS_FR, new Object[]{0}));
+        assertEquals("1,5 pièce", formats.format("fr", "coins", COINS_FR, new Object[]{1.5}));
+        assertEquals("2 pièces", formats.format("fr", "coins", COINS_FR, new Object[]{2}));
+    }
+
+    @Test
+    void malformedValuesAreReportedAndOutputAsTheyAre() {
+        MessageFormats formats = MessageFormats.compile(Map.of(
+            "broken", Map.of("de", approved("{0, plural, one {# Münze}}")),
+            "plain", Map.of("de", approved("Keine Argumente"))));
+
+        List<String> errors = formats.getErrors();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("broken [de]: "), errors.get(0));
+        assertEquals("{0, plural, one {# Münze}}", formats.format("de", "broken", "{0, plural, one {# Münze}}", new Object[]{1}));
+    }
+
+    @Test
+    void changedValuesAreCompiledAgain() {
+        MessageFormats formats = MessageFormats.compile(Map.of("greeting", Map.of("en", approved("Hello {0}"))));
+
+        assertEquals("Hello Steve", formats.format("en", "greeting", "Hello {0}", new Object[]{"Steve"}));
+        assertEquals("Hi Steve", formats.format("en", "greeting", "Hi {0}", new Object[]{"Steve"}));
+    }
+
+    @Test
+    void lazyFormatsCompileOnFirstUse() {
+        MessageFormats formats = MessageFormats.lazy();
+
+        assertEquals("1 coin", formats.format("en", "coins", COINS_EN, new Object[]{1}));
+        assertEquals("5 coins", formats.format("en", "coins", COINS_EN, new Object[]{5}));
+        assertEquals("{0, select}", formats.format("en", "broken", "{0, select}", new Object[]{"x"}));
+        assertTrue(formats.getErrors().isEmpty());
+    }
+
+    @Test
+    void namedPlaceholdersPassThrough() {
+        MessageFormats formats = MessageFormats.lazy();
+
+        assertEquals("Welcome {player}, you have 3 coins",
+            formats.format("en", "welcome", "Welcome {player}, you have " + COINS_EN, new Object[]{3}));
+    }
+}
@@ -0,0 +1,149 @@
+package dev.steyon.translateMCPlugin.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessagePatternTest {
+    private static final String COINS = "{0, plural, =0 {no coins} one {# coin} other {# coins}}";
+
+    private static String formatIn(String languageCode, String pattern, Object... args) {
+        return MessagePattern.compile(pattern)
+            .format(args, PluralRule.forLanguage(languageCode), LocaleFormatters.forLanguage(languageCode));
+    }
+
+    private static String format(String pattern, Object... args) {
+        return formatIn("en", pattern, args);
+    }
+
+    @Test
+    void argumentsAreReplaced() {
+        assertEquals("Hello Steve, you are level 5", format("Hello {0}, you are level {1}", "Steve", 5));
+        assertEquals("Steve Steve", format("{0} {0}", "Steve"));
+        assertEquals("Hello {1}", format("Hello {1}", "Steve"));
+        assertEquals("No arguments", format("No arguments"));
+    }
+
+    @Test
+    void numbersAreFormattedForTheLocale() {
+        assertEquals("1,234,567", format("{0}", 1234567));
+        assertEquals("1.234.567", formatIn("de", "{0}", 1234567));
+        assertEquals("1,235", format("{0, number, integer}", 1234.6));
+        assertEquals("50%", format("{0, number, percent}", 0.5));
+        assertEquals("text", format("{0, number}", "text"));
+    }
+
+    @Test
+    void datesAreFormattedForTheLocale() {
+        LocalDate date = LocalDate.of(2024, 3, 5);
+        assertEquals(DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT).withLocale(Locale.ENGLISH).format(date),
+            format("{0, date, short}", date));
+        assertEquals(DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(Locale.GERMAN).format(date),
+            formatIn("de", "{0, date, long}", date));
+    }
+
+    @Test
+    void pluralSelectsTheCategoryOfTheLanguage() {
+        assertEquals("1 coin", format(COINS, 1));
+        assertEquals("2 coins", format(COINS, 2));
+        assertEquals("1,500 coins", format(COINS, 1500));
+
+        String russian = "{0, plural, one {# монета} few {# монеты} many {# монет} other {# монеты}}";
+        assertEquals("21 монета", formatIn("ru", russian, 21));
+        assertEquals("3 монеты", formatIn("ru", russian, 3));
+        assertEquals("11 монет", formatIn("ru", russian, 11));
+        assertEquals("1,5 монеты", formatIn("ru", russian, 1.5));
+    }
+
+    @Test
+    void exactSelectorsWinOverCategories() {
+        assertEquals("no coins", format(COINS, 0));
+        assertEquals("exactly one", format("{0, plural, =1 {exactly one} one {# coin} other {# coins}}", 1));
+        assertEquals("1 coin", format("{0, plural, =1.5 {one and a half} one {# coin} other {# coins}}", 1L));
+        assertEquals("one and a half", format("{0, plural, =1.5 {one and a half} other {# coins}}", 1.5));
+    }
+
+    @Test
+    void missingCategoriesAndNonNumbersFallBackToOther() {
+        assertEquals("2 coins", format("{0, plural, other {# coins}}", 2));
+        assertEquals("# coins", format(COINS, "many"));
+    }
+
+    @Test
+    void poundIsOnlyReplacedInsidePlurals() {
+        assertEquals("#1: 3 items", format("#1: {0, plural, one {# item} other {# items}}", 3));
+        assertEquals("3 of 3 items", format("{0, plural, other {{0} of # items}}", 3));
+        assertEquals("# 3", format("{0, plural, other {'#' #}}", 3));
+        assertEquals("a'#", format("a'#"));
+    }
+
+    @Test
+    void selectPicksBranchByValue() {
+        String pattern = "{0, select, male {his} female {her} other {their}} sword";
+        assertEquals("his sword", format(pattern, "male"));
+        assertEquals("her sword", format(pattern, "female"));
+        assertEquals("their sword", format(pattern, "robot"));
+    }
+
+    @Test
+    void nestedArgumentsAreFormatted() {
+        String pattern = "{0, select, male {{1, plural, one {He has # coin} other {He has # coins}}} other {{1} coins}}";
+        assertEquals("He has 1 coin", format(pattern, "male", 1));
+        assertEquals("He has 4 coins", format(pattern, "male", 4));
+        assertEquals("4 coins", format(pattern, "other", 4));
+    }
+
+    @Test
+    void apostrophesQuoteBracesAndDoubleApostrophesEscape() {
+        assertEquals("It's {0} literally", format("It''s '{0}' literally", "x"));
+        assertEquals("don't x", format("don't {0}", "x"));
+        assertEquals("{braces} and x", format("'{braces}' and {0}", "x"));
+        assertEquals("a } b", format("a '}' b"));
+        assertEquals("it's {quoted}", format("it''s '{quoted}'"));
+        assertEquals("{it's}", format("'{it''s}'"));
+    }
+
+    @Test
+    void namedPlaceholdersAreKept() {
+        assertEquals("Welcome {player} to x", format("Welcome {player} to {0}", "x"));
+        assertEquals("{ player }", format("{ player }"));
+        assertEquals("%vault_eco_balance%", format("%vault_eco_balance%", 5));
+    }
+
+    @Test
+    void sourceIsKept() {
+        assertEquals(COINS, MessagePattern.compile(COINS).getSource());
+        MessagePattern literal = MessagePattern.literal("{0, broken");
+        assertEquals("{0, broken", literal.getSource());
+        assertEquals("{0, broken", literal.format(new Object[]{1}, PluralRule.ENGLISH, LocaleFormatters.forLocale(Locale.ENGLISH)));
+    }
+
+    @Test
+    void malformedPatternsAreRejected() {
+        assertMalformed("Unclosed {0", "Expected ','");
+        assertMalformed("Unclosed {player", "Unclosed argument");
+        assertMalformed("Stray } brace", "Unexpected '}'");
+        assertMalformed("{0, currency}", "Unknown argument type 'currency'");
+        assertMalformed("{0, number, money}", "Unknown number style 'money'");
+        assertMalformed("{0, date, tiny}", "Unknown date style 'tiny'");
+        assertMalformed("{0, plural, one {# coin}}", "has no 'other' branch");
+        assertMalformed("{0, plural, some {x} other {y}}", "Unknown plural category 'some'");
+        assertMalformed("{0, plural, =x {x} other {y}}", "Invalid plural selector '=x'");
+        assertMalformed("{0, select, male {his}}", "has no 'other' branch");
+        assertMalformed("{0, plural, other {# coins}", "Expected a name");
+        assertMalformed("{0, plural, other {# coins", "Unclosed sub-message");
+        assertMalformed("{name, number}", "Argument index must be a number");
+        assertMalformed("{99999999999}", "Argument index is too large");
+    }
+
+    private static void assertMalformed(String pattern, String message) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> MessagePattern.compile(pattern));
+        assertTrue(e.getMessage().contains(message), () -> "Unexpected message for " + pattern + ": " + e.getMessage());
+        assertTrue(e.getMessage().contains("at position"), e.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package dev.steyon.translateMCPlugin.format;
+
+import org.junit.jupiter.api.Test;
+
+import static dev.steyon.translateMCPlugin.format.PluralCategory.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluralRuleTest {
+
+    @Test
+    void englishHasOneOnlyForTheInteger1() {
+        PluralRule rule = PluralRule.forLanguage("en");
+        assertEquals(ONE, rule.select(1));
+        assertEquals(OTHER, rule.select(0));
+        assertEquals(OTHER, rule.select(2));
+        assertEquals(OTHER, rule.select(1.5));
+        assertEquals(OTHER, rule.select(21));
+    }
+
+    @Test
+    void frenchTreatsZeroAndFractionsBelowTwoAsOne() {
+        PluralRule rule = PluralRule.forLanguage("fr");
+        assertEquals(ONE, rule.select(0));
+        assertEquals(ONE, rule.select(1));
+        assertEquals(ONE, rule.select(1.5));
+        assertEquals(OTHER, rule.select(2));
+        assertSame(rule, PluralRule.forLanguage("pt_BR"));
+    }
+
+    @Test
+    void russianUsesOneFewMany() {
+        PluralRule rule = PluralRule.forLanguage("ru");
+        assertEquals(ONE, rule.select(1));
+        assertEquals(ONE, rule.select(21));
+        assertEquals(MANY, rule.select(11));
+        assertEquals(FEW, rule.select(2));
+        assertEquals(FEW, rule.select(24));
+        assertEquals(MANY, rule.select(12));
+        assertEquals(MANY, rule.select(5));
+        assertEquals(MANY, rule.select(0));
+        assertEquals(OTHER, rule.select(1.5));
+    }
+
+    @Test
+    void polishOnlyUsesOneForExactly1() {
+        PluralRule rule = PluralRule.forLanguage("pl");
+        assertEquals(ONE, rule.select(1));
+        assertEquals(MANY, rule.select(21));
+        assertEquals(FEW, rule.select(22));
+        assertEquals(MANY, rule.select(12));
+        assertEquals(MANY, rule.select(5));
+    }
+
+    @Test
+    void czechUsesFewForTwoToFour() {
+        PluralRule rule = PluralRule.forLanguage("cs");
+        assertEquals(ONE, rule.select(1));
+        assertEquals(FEW, rule.select(3));
+        assertEquals(OTHER, rule.select(5));
+        assertEquals(MANY, rule.select(2.5));
+        assertSame(rule, PluralRule.forLanguage("sk"));
+    }
+
+    @Test
+    void arabicUsesAllSixCategories() {
+        PluralRule rule = PluralRule.forLanguage("ar");
+        assertEquals(ZERO, rule.select(0));
+        assertEquals(ONE, rule.select(1));
+        assertEquals(TWO, rule.select(2));
+        assertEquals(FEW, rule.select(3));
+        assertEquals(FEW, rule.select(110));
+        assertEquals(MANY, rule.select(11));
+        assertEquals(MANY, rule.select(99));
+        assertEquals(OTHER, rule.select(100));
+    }
+
+    @Test
+    void otherLanguagesFollowTheirRules() {
+        assertEquals(ZERO, PluralRule.forLanguage("lv").select(10));
+        assertEquals(ONE, PluralRule.forLanguage("lv").select(21));
+        assertEquals(FEW, PluralRule.forLanguage("lt").select(9));
+        assertEquals(OTHER, PluralRule.forLanguage("lt").select(15));
+        assertEquals(FEW, PluralRule.forLanguage("ro").select(0));
+        assertEquals(OTHER, PluralRule.forLanguage("ro").select(20));
+        assertEquals(TWO, PluralRule.forLanguage("sl").select(102));
+        assertEquals(TWO, PluralRule.forLanguage("he").select(2));
+        assertEquals(FEW, PluralRule.forLanguage("sr-Latn").select(3));
+        assertEquals(OTHER, PluralRule.forLanguage("sr-Latn").select(5));
+    }
+
+    @Test
+    void languagesWithoutPluralsAlwaysUseOther() {
+        PluralRule rule = PluralRule.forLanguage("ja");
+        assertEquals(OTHER, rule.select(1));
+        assertSame(PluralRule.OTHER_ONLY, PluralRule.forLanguage("zh_CN"));
+    }
+
+    @Test
+    void unknownLanguagesUseTheEnglishRule() {
+        assertSame(PluralRule.ENGLISH, PluralRule.forLanguage("de"));
+        assertSame(PluralRule.ENGLISH, PluralRule.forLanguage("xx"));
+        assertSame(PluralRule.EAST_SLAVIC, PluralRule.forLanguage("UK"));
+    }
+
+    @Test
+    void keywordsMapToCategories() {
+        assertEquals(FEW, PluralCategory.fromKeyword("few"));
+        assertEquals(OTHER, PluralCategory.fromKeyword("other"));
+        assertNull(PluralCategory.fromKeyword("some"));
+        assertNull(PluralCategory.fromKeyword("ONE"));
+    }
+}
@@ -0,0 +1,227 @@
+package dev.steyon.translateMCPlugin.loadtest;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import dev.steyon.translateMCPlugin.TranslateMCPlugin;
+import dev.steyon.translateMCPlugin.manager.TranslationManager;
+import dev.steyon.translateMCPlugin.placeholder.PlaceholderAPIExpansion;
+import dev.steyon.translateMCPlugin.profiler.TickProfiler;
+import dev.steyon.translateMCPlugin.testing.FakeTranslationServer;
+import dev.steyon.translateMCPlugin.testing.TestCatalog;
+import org.bukkit.event.inventory.InventoryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of the plugin on a mock server against the fake API.
+ *
+ * Players join over the first ticks, pick languages with /translate and the language selector,
+ * and resolve placeholders every tick while the translation table is refreshed in the background.
+ * The test fails when the plugin exceeds its main-thread, refresh or heap budget.
+ * Sizes and budgets are read from system properties, which the loadTest task passes on from -Ploadtest.* properties.
+ * It only runs with ./gradlew loadTest, or as part of check with -Ploadtest, since the budgets are wall-clock times.
+ */
+@Tag("load")
+class PluginLoadTest {
+    // Load
+    private static final int PLAYERS = intProperty("loadtest.players", 1000);
+    private static final int JOINS_PER_TICK = intProperty("loadtest.joins-per-tick", 20);
+    private static final int TICKS = intProperty("loadtest.ticks", 600);
+    private static final int ACTIONS_PER_TICK = intProperty("loadtest.actions-per-tick", 10);
+    private static final int PLACEHOLDERS_PER_TICK = intProperty("loadtest.placeholders-per-tick", 200);
+    private static final int REFRESHES = intProperty("loadtest.refreshes", 5);
+
+    // Fake API
+    private static final int KEYS = intProperty("loadtest.keys", 20000);
+    private static final int LANGUAGES = intProperty("loadtest.languages", 8);
+    private static final long LATENCY_MILLIS = longProperty("loadtest.latency-ms", 50);
+    private static final double FAILURE_RATE = doubleProperty("loadtest.failure-rate", 0.2);
+
+    // Budgets, the tick budgets apply to the profiler's window of the last 1200 ticks
+    private static final double AVG_TICK_BUDGET_MILLIS = doubleProperty("loadtest.budget.avg-tick-ms", 2.0);
+    private static final double MAX_TICK_BUDGET_MILLIS = doubleProperty("loadtest.budget.max-tick-ms", 25.0);
+    private static final long REFRESH_BUDGET_MILLIS = longProperty("loadtest.budget.refresh-ms", 3000);
+    private static final long HEAP_BUDGET_MB = longProperty("loadtest.budget.heap-mb", 128);
+
+    private final Random random = new Random(42);
+    private final List<PlayerMock> players = new ArrayList<>();
+
+    private FakeTranslationServer api;
+    private ServerMock server;
+    private TranslateMCPlugin plugin;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        api = new FakeTranslationServer(TestCatalog.generate(KEYS, LANGUAGES)).setLatency(LATENCY_MILLIS);
+        server = MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+        api.close();
+    }
+
+    @Test
+    void pluginStaysWithinBudgets() {
+        long baselineHeap = usedHeap();
+
+        // Point the plugin at the fake API before it is enabled, the first load is blocking and must succeed
+        plugin = (TranslateMCPlugin) server.getPluginManager().loadPlugin(TranslateMCPlugin.class, new Object[0]);
+        plugin.getConfig().set("api.url", api.getBaseUrl());
+        plugin.getConfig().set("profiler.enabled", true);
+        plugin.getConfig().set("profiler.tick-budget-ms", MAX_TICK_BUDGET_MILLIS);
+        plugin.getConfig().set("telemetry.flush-interval", 3600);
+        plugin.saveConfig();
+        server.getPluginManager().enablePlugin(plugin);
+
+        TranslationManager manager = plugin.getTranslationManager();
+        TickProfiler profiler = plugin.getProfiler();
+        PlaceholderAPIExpansion placeholders = new PlaceholderAPIExpansion(plugin);
+        List<String> languages = manager.getAvailableLanguageCodes();
+        assertEquals(KEYS, manager.getAllKeys().size());
+        assertEquals(LANGUAGES, languages.size());
+
+        long tableHeap = usedHeap() - baselineHeap;
+        long maxRefreshMillis = manager.getLastRefreshDuration();
+        api.setFailureRate(FAILURE_RATE);
+
+        int refreshInterval = Math.max(1, TICKS / (REFRESHES + 1));
+        int refreshes = 0;
+        int failedRefreshes = 0;
+        CompletableFuture<Void> refresh = null;
+        long refreshVersion = 0;
+        int commandSelections = 0;
+        int selectorsOpened = 0;
+        int clicks = 0;
+
+        for (int tick = 1; tick <= TICKS; tick++) {
+            for (int i = 0; i < JOINS_PER_TICK && players.size() < PLAYERS; i++) {
+                players.add(server.addPlayer());
+            }
+
+            for (int i = 0; i < ACTIONS_PER_TICK && !players.isEmpty(); i++) {
+                PlayerMock player = players.get(random.nextInt(players.size()));
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        String code = languages.get(random.nextInt(languages.size()));
+                        player.performCommand("translate " + code);
+                        assertEquals(code, manager.getPlayerLanguage(player));
+                        commandSelections++;
+                    }
+                    case 1 -> {
+                        player.performCommand("translate");
+                        selectorsOpened++;
+                    }
+                    default -> {
+                        if (player.getOpenInventory().getTopInventory().getType() == InventoryType.CHEST) {
+                            player.simulateInventoryClick(random.nextInt(languages.size()));
+                            clicks++;
+                        }
+                    }
+                }
+            }
+
+            for (int i = 0; i < PLACEHOLDERS_PER_TICK && !players.isEmpty(); i++) {
+                PlayerMock player = players.get(random.nextInt(players.size()));
+                int kind = random.nextInt(20);
+                String params = kind == 0 ? "player_language"
+                    : kind == 1 ? "player_language_name"
+                    : kind == 2 ? "missing.key." + random.nextInt(100)
+                    : TestCatalog.key(random.nextInt(KEYS));
+                assertNotNull(placeholders.onPlaceholderRequest(player, params));
+            }
+
+            // Refresh in the background like the auto-refresh task, while the ticks go on
+            if (refresh != null && refresh.isDone()) {
+                refresh.join();
+                maxRefreshMillis = Math.max(maxRefreshMillis, manager.getLastRefreshDuration());
+                if (manager.getSnapshotVersion() == refreshVersion) {
+                    failedRefreshes++;
+                }
+                // A failed refresh keeps serving the last good table
+                assertEquals(KEYS, manager.getAllKeys().size());
+                refresh = null;
+            }
+            if (refresh == null && refreshes < REFRESHES && tick % refreshInterval == 0) {
+                refreshVersion = manager.getSnapshotVersion();
+                refresh = CompletableFuture.runAsync(manager::loadTranslations);
+                refreshes++;
+            }
+
+            server.getScheduler().performOneTick();
+            server.getPluginManager().callEvent(new ServerTickEndEvent(tick, 50.0, 0));
+        }
+        if (refresh != null) {
+            refresh.join();
+            maxRefreshMillis = Math.max(maxRefreshMillis, manager.getLastRefreshDuration());
+        }
+
+        double avgTickMillis = profiler.getAverageTickNanos() / 1_000_000.0;
+        double maxTickMillis = profiler.getMaxTickNanos() / 1_000_000.0;
+        List<String> report = profiler.getReport();
+
+        // Whatever the plugin still holds once everyone left is retained by the plugin itself
+        for (PlayerMock player : players) {
+            player.disconnect();
+        }
+        players.clear();
+        long retainedHeap = usedHeap() - baselineHeap;
+
+        System.out.printf(Locale.ROOT, "Load test: %d players, %d ticks, %d keys x %d languages (%d KB /keys payload), %d ms latency, %.0f%% failures%n",
+            PLAYERS, TICKS, KEYS, LANGUAGES, api.getPayloadSize() / 1024, LATENCY_MILLIS, FAILURE_RATE * 100);
+        System.out.printf(Locale.ROOT, "  %d languages selected by command, %d selectors opened, %d clicks%n",
+            commandSelections, selectorsOpened, clicks);
+        System.out.printf(Locale.ROOT, "  main thread: avg %.2f ms/tick (budget %.2f), max %.2f ms (budget %.2f)%n",
+            avgTickMillis, AVG_TICK_BUDGET_MILLIS, maxTickMillis, MAX_TICK_BUDGET_MILLIS);
+        for (String line : report) {
+            System.out.println("    " + line);
+        }
+        System.out.printf(Locale.ROOT, "  refresh: %d runs, %d failed, max %d ms (budget %d)%n",
+            refreshes, failedRefreshes, maxRefreshMillis, REFRESH_BUDGET_MILLIS);
+        System.out.printf(Locale.ROOT, "  heap: %d MB after loading the table, %d MB retained after the run (budget %d)%n",
+            tableHeap / (1024 * 1024), retainedHeap / (1024 * 1024), HEAP_BUDGET_MB);
+
+        assertTrue(avgTickMillis <= AVG_TICK_BUDGET_MILLIS,
+            String.format(Locale.ROOT, "Average main-thread time %.2f ms/tick exceeds the budget of %.2f ms", avgTickMillis, AVG_TICK_BUDGET_MILLIS));
+        assertTrue(maxTickMillis <= MAX_TICK_BUDGET_MILLIS,
+            String.format(Locale.ROOT, "Main-thread time %.2f ms in a single tick exceeds the budget of %.2f ms", maxTickMillis, MAX_TICK_BUDGET_MILLIS));
+        assertTrue(maxRefreshMillis <= REFRESH_BUDGET_MILLIS,
+            "Refresh took " + maxRefreshMillis + " ms, the budget is " + REFRESH_BUDGET_MILLIS + " ms");
+        assertTrue(retainedHeap <= HEAP_BUDGET_MB * 1024 * 1024,
+            "The plugin retains " + retainedHeap / (1024 * 1024) + " MB of heap, the budget is " + HEAP_BUDGET_MB + " MB");
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, Integer.toString(defaultValue)));
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty(name, Long.toString(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(name, Double.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,76 @@
+package dev.steyon.translateMCPlugin.manager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyIndexTest {
+    private static final String MAX = String.valueOf(Character.MAX_VALUE);
+
+    private final KeyIndex index = KeyIndex.of(List.of(
+        "shop.title", "menu.close", "shop.items.sword", "shopkeeper.greeting", "shop", "menu.open",
+        "shop.items.bow", "welcome", "shop." + MAX, "shop." + MAX + "z", "shop" + MAX + ".after"));
+
+    @Test
+    void keysAreSorted() {
+        assertEquals(List.of("menu.close", "menu.open", "shop", "shop.items.bow", "shop.items.sword", "shop.title",
+            "shop." + MAX, "shop." + MAX + "z", "shopkeeper.greeting", "shop" + MAX + ".after", "welcome"),
+            new ArrayList<>(index.getKeys()));
+        assertEquals(11, index.size());
+    }
+
+    @Test
+    void prefixReturnsOnlyMatchingKeysInOrder() {
+        assertEquals(List.of("menu.close", "menu.open"), new ArrayList<>(index.getKeys("menu.")));
+        assertEquals(List.of("shop.items.bow", "shop.items.sword"), new ArrayList<>(index.getKeys("shop.items.")));
+        assertEquals(List.of("shop.items.sword"), new ArrayList<>(index.getKeys("shop.items.sword")));
+        assertEquals(index.getKeys(), index.getKeys(""));
+    }
+
+    @Test
+    void prefixIncludesKeysContinuingWithTheLargestCharacter() {
+        assertEquals(List.of("shop.items.bow", "shop.items.sword", "shop.title", "shop." + MAX, "shop." + MAX + "z"),
+            new ArrayList<>(index.getKeys("shop.")));
+        assertEquals(List.of("shop." + MAX, "shop." + MAX + "z"), new ArrayList<>(index.getKeys("shop." + MAX)));
+        assertEquals(8, index.getKeys("shop").size());
+    }
+
+    @Test
+    void prefixWithoutMatchesIsEmpty() {
+        assertTrue(index.getKeys("missing.").isEmpty());
+        assertTrue(index.getKeys("a").isEmpty());
+        assertTrue(index.getKeys("zzz").isEmpty());
+        assertTrue(index.getKeys(MAX).isEmpty());
+        assertTrue(KeyIndex.empty().getKeys("shop.").isEmpty());
+    }
+
+    @Test
+    void prefixViewsOnlyContainTheirRange() {
+        Set<String> shop = index.getKeys("shop.");
+        assertTrue(shop.contains("shop.title"));
+        assertTrue(shop.contains("shop." + MAX + "z"));
+        assertFalse(shop.contains("shop"));
+        assertFalse(shop.contains("menu.open"));
+        assertFalse(shop.contains("shopkeeper.greeting"));
+        assertThrows(UnsupportedOperationException.class, () -> shop.add("shop.new"));
+    }
+
+    @Test
+    void containsLooksUpWholeKeys() {
+        assertTrue(index.contains("welcome"));
+        assertTrue(index.contains("shop"));
+        assertFalse(index.contains("shop."));
+        assertFalse(index.contains("welcome.back"));
+    }
+
+    @Test
+    void namespacesArePartsBeforeTheFirstDot() {
+        assertEquals(Set.of("menu", "shop", "shop" + MAX, "shopkeeper"), index.getNamespaces());
+        assertTrue(KeyIndex.of(List.of("welcome", ".hidden")).getNamespaces().isEmpty());
+        assertTrue(KeyIndex.empty().getNamespaces().isEmpty());
+    }
+}
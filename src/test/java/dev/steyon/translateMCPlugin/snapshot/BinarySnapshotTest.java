@@ -0,0 +1,289 @@
+package dev.steyon.translateMCPlugin.snapshot;
+
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+import dev.steyon.translateMCPlugin.testing.TestCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySnapshotTest {
+
+    @Test
+    void roundTripKeepsEveryValueAndStatus() throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(500, 4);
+        BinarySnapshot snapshot = BinarySnapshot.wrap(BinarySnapshotWriter.encode(catalog), false);
+
+        assertEquals(500, snapshot.getKeyCount());
+        for (Map.Entry<String, Map<String, TranslationAPI.Translation>> entry : catalog.getTranslations().entrySet()) {
+            for (Map.Entry<String, TranslationAPI.Translation> translation : entry.getValue().entrySet()) {
+                TranslationAPI.Translation read = snapshot.getTranslation(entry.getKey(), translation.getKey());
+                assertNotNull(read, entry.getKey());
+                assertEquals(translation.getValue().getValue(), read.getValue());
+                assertEquals(translation.getValue().getStatus(), read.getStatus());
+                assertEquals(translation.getValue().getValue(), snapshot.getValue(entry.getKey(), translation.getKey()));
+            }
+        }
+    }
+
+    @Test
+    void roundTripKeepsLanguages() throws IOException {
+        List<TranslationAPI.Language> languages = List.of(
+            new TranslationAPI.Language("en", "English", true, "ZXlKMFpYaDBkWEpsY3lJNmUzMTk="),
+            new TranslationAPI.Language("de", "Deutsch", false, null));
+        BinarySnapshot snapshot = BinarySnapshot.wrap(
+            BinarySnapshotWriter.encode(new TranslationAPI.APIResponse(new HashMap<>(), languages)), false);
+
+        List<TranslationAPI.Language> read = snapshot.getLanguages();
+        assertEquals(2, read.size());
+        assertEquals("en", read.get(0).getCode());
+        assertEquals("English", read.get(0).getName());
+        assertTrue(read.get(0).isSource());
+        assertEquals("ZXlKMFpYaDBkWEpsY3lJNmUzMTk=", read.get(0).getMinecraftHead());
+        assertEquals("de", read.get(1).getCode());
+        assertFalse(read.get(1).isSource());
+        assertNull(read.get(1).getMinecraftHead());
+    }
+
+    @Test
+    void keysAreSortedByUtf8Bytes() throws IOException {
+        Map<String, Map<String, TranslationAPI.Translation>> translations = new HashMap<>();
+        for (String key : List.of("zebra", "äpfel", "apple", "Apple", "emoji.🎉", "apple.pie")) {
+            Map<String, TranslationAPI.Translation> values = new HashMap<>();
+            values.put("en", new TranslationAPI.Translation("value of " + key, "approved"));
+            translations.put(key, values);
+        }
+        List<TranslationAPI.Language> languages = List.of(new TranslationAPI.Language("en", "English", true, null));
+        BinarySnapshot snapshot = BinarySnapshot.wrap(
+            BinarySnapshotWriter.encode(new TranslationAPI.APIResponse(translations, languages)), false);
+
+        List<String> expected = new ArrayList<>(translations.keySet());
+        expected.sort((a, b) -> Arrays.compareUnsigned(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(expected, snapshot.getKeys());
+
+        for (String key : translations.keySet()) {
+            assertTrue(snapshot.containsKey(key), key);
+            assertEquals("value of " + key, snapshot.getValue(key, "en"));
+        }
+    }
+
+    @Test
+    void indexedLookupsMatchTheBinarySearch() throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(300, 3);
+        byte[] data = BinarySnapshotWriter.encode(catalog);
+        BinarySnapshot searched = BinarySnapshot.wrap(data, true);
+        BinarySnapshot indexed = BinarySnapshot.wrap(data, true);
+        indexed.buildIndex();
+
+        assertFalse(searched.isIndexed());
+        assertTrue(indexed.isIndexed());
+        for (String key : catalog.getTranslations().keySet()) {
+            for (String language : List.of("en", "de", "fr", "xx")) {
+                assertEquals(searched.getValue(key, language), indexed.getValue(key, language), key);
+            }
+            assertTrue(indexed.containsKey(key));
+        }
+        assertNull(indexed.getValue("does.not.exist", "en"));
+        assertFalse(indexed.containsKey("does.not.exist"));
+    }
+
+    @Test
+    void missingKeysAndLanguagesReturnNull() throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(20, 2);
+        BinarySnapshot snapshot = BinarySnapshot.wrap(BinarySnapshotWriter.encode(catalog), false);
+
+        assertNull(snapshot.getValue("does.not.exist", "en"));
+        assertNull(snapshot.getValue(TestCatalog.key(1), "xx"));
+        assertNull(snapshot.getTranslation("does.not.exist", "en"));
+        assertFalse(snapshot.containsKey("does.not.exist"));
+    }
+
+    @Test
+    void translationsWithoutAValueAreAbsent() throws IOException {
+        Map<String, Map<String, TranslationAPI.Translation>> translations = new HashMap<>();
+        Map<String, TranslationAPI.Translation> values = new HashMap<>();
+        values.put("en", new TranslationAPI.Translation("Hello", "approved"));
+        values.put("xx", new TranslationAPI.Translation("Unlisted language", "approved"));
+        translations.put("greeting", values);
+        List<TranslationAPI.Language> languages = List.of(
+            new TranslationAPI.Language("en", "English", true, null),
+            new TranslationAPI.Language("de", "Deutsch", false, null));
+        BinarySnapshot snapshot = BinarySnapshot.wrap(
+            BinarySnapshotWriter.encode(new TranslationAPI.APIResponse(translations, languages)), false);
+
+        assertEquals("Hello", snapshot.getValue("greeting", "en"));
+        assertNull(snapshot.getValue("greeting", "de"));
+        assertNull(snapshot.getValue("greeting", "xx"));
+    }
+
+    @Test
+    void toResponseDecodesTheWholeTable() throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(100, 3);
+        TranslationAPI.APIResponse decoded = BinarySnapshot.wrap(BinarySnapshotWriter.encode(catalog), false).toResponse();
+
+        assertEquals(catalog.getTranslations().keySet(), decoded.getTranslations().keySet());
+        assertEquals(3, decoded.getLanguages().size());
+        for (Map.Entry<String, Map<String, TranslationAPI.Translation>> entry : catalog.getTranslations().entrySet()) {
+            Map<String, TranslationAPI.Translation> values = decoded.getTranslations().get(entry.getKey());
+            assertEquals(entry.getValue().keySet(), values.keySet());
+            for (Map.Entry<String, TranslationAPI.Translation> value : entry.getValue().entrySet()) {
+                assertEquals(value.getValue().getValue(), values.get(value.getKey()).getValue());
+                assertEquals(value.getValue().getStatus(), values.get(value.getKey()).getStatus());
+            }
+        }
+    }
+
+    @Test
+    void emptyCatalogRoundTrips() throws IOException {
+        BinarySnapshot snapshot = BinarySnapshot.wrap(
+            BinarySnapshotWriter.encode(new TranslationAPI.APIResponse(new HashMap<>(), new ArrayList<>())), false);
+
+        assertEquals(0, snapshot.getKeyCount());
+        assertTrue(snapshot.getLanguages().isEmpty());
+        assertNull(snapshot.getValue("any", "en"));
+        snapshot.verify();
+    }
+
+    @Test
+    void writtenFileCanBeMapped(@TempDir Path directory) throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(200, 3);
+        Path file = directory.resolve("translations.snapshot");
+        BinarySnapshotWriter.write(file, catalog);
+
+        assertFalse(Files.exists(directory.resolve("translations.snapshot.tmp")));
+        for (boolean cacheStrings : new boolean[]{false, true}) {
+            BinarySnapshot snapshot = BinarySnapshot.open(file, cacheStrings);
+            snapshot.verify();
+            assertEquals(200, snapshot.getKeyCount());
+            String key = TestCatalog.key(42);
+            String expected = catalog.getTranslations().get(key).get("de").getValue();
+            assertEquals(expected, snapshot.getValue(key, "de"));
+            assertEquals(expected, snapshot.getValue(key, "de"));
+        }
+    }
+
+    @Test
+    void overwritingKeepsTheNewContent(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("translations.snapshot");
+        BinarySnapshotWriter.write(file, TestCatalog.generate(10, 1));
+        BinarySnapshotWriter.write(file, TestCatalog.generate(30, 2));
+
+        BinarySnapshot snapshot = BinarySnapshot.open(file, false);
+        assertEquals(30, snapshot.getKeyCount());
+        assertEquals(2, snapshot.getLanguages().size());
+    }
+
+    @Test
+    void rejectsWrongMagic() {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(10, 2));
+        data[0] ^= 0x7F;
+        IOException e = assertThrows(IOException.class, () -> BinarySnapshot.wrap(data, false));
+        assertTrue(e.getMessage().contains("Not a translation snapshot"));
+    }
+
+    @Test
+    void rejectsUnknownFormatVersion() {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(10, 2));
+        header(data).putInt(4, BinarySnapshot.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, () -> BinarySnapshot.wrap(data, false));
+    }
+
+    @Test
+    void rejectsTruncatedFiles() {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(50, 2));
+        for (int length : new int[]{0, 8, BinarySnapshot.HEADER_SIZE, BinarySnapshot.HEADER_SIZE + 16, data.length / 2, data.length - 1}) {
+            byte[] truncated = Arrays.copyOf(data, length);
+            assertThrows(IOException.class, () -> BinarySnapshot.wrap(truncated, false), "length " + length);
+        }
+    }
+
+    @Test
+    void rejectsTrailingBytes() {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(50, 2));
+        assertThrows(IOException.class, () -> BinarySnapshot.wrap(Arrays.copyOf(data, data.length + 1), false));
+    }
+
+    @Test
+    void rejectsNegativeCounts() {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(10, 2));
+        header(data).putInt(28, -1);
+        assertThrows(IOException.class, () -> BinarySnapshot.wrap(data, false));
+    }
+
+    @Test
+    void verifyDetectsFlippedBits() throws IOException {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(100, 3));
+        BinarySnapshot.wrap(data, false).verify();
+
+        // Flip one bit in every region of the body: string offsets, tables and string data
+        for (int position = BinarySnapshot.HEADER_SIZE; position < data.length; position += Math.max(1, data.length / 64)) {
+            byte[] corrupted = data.clone();
+            corrupted[position] ^= 0x01;
+            try {
+                BinarySnapshot snapshot = BinarySnapshot.wrap(corrupted, false);
+                assertThrows(IOException.class, snapshot::verify, "flipped bit at " + position);
+            } catch (IOException | IllegalStateException e) {
+                // Rejected while opening, which is just as good
+            }
+        }
+    }
+
+    @Test
+    void corruptedIndicesAndOffsetsAreMisses() throws IOException {
+        TranslationAPI.APIResponse catalog = TestCatalog.generate(50, 2);
+        byte[] data = BinarySnapshotWriter.encode(catalog);
+        ByteBuffer buffer = header(data);
+        int stringCount = buffer.getInt(20);
+        int keysStart = BinarySnapshot.HEADER_SIZE + (stringCount + 1) * Integer.BYTES + 2 * BinarySnapshot.LANGUAGE_ENTRY_INTS * Integer.BYTES;
+        int valuesStart = keysStart + 50 * Integer.BYTES;
+
+        buffer.putInt(keysStart + 10 * Integer.BYTES, stringCount + 5);
+        buffer.putInt(keysStart + 30 * Integer.BYTES, -7);
+        buffer.putInt(valuesStart + 20 * 2 * 2 * Integer.BYTES, Integer.MAX_VALUE);
+        buffer.putInt(BinarySnapshot.HEADER_SIZE + (stringCount / 2) * Integer.BYTES, Integer.MAX_VALUE);
+        buffer.putInt(BinarySnapshot.HEADER_SIZE + (stringCount / 2 + 3) * Integer.BYTES, -1);
+
+        for (boolean indexed : new boolean[]{false, true}) {
+            BinarySnapshot snapshot = BinarySnapshot.wrap(data, true);
+            if (indexed) {
+                snapshot.buildIndex();
+            }
+            assertThrows(IOException.class, snapshot::verify);
+            for (String key : catalog.getTranslations().keySet()) {
+                for (String language : List.of("en", "de")) {
+                    assertDoesNotThrow(() -> snapshot.getValue(key, language), key);
+                    assertDoesNotThrow(() -> snapshot.getTranslation(key, language), key);
+                }
+                assertDoesNotThrow(() -> snapshot.containsKey(key), key);
+            }
+            assertTrue(snapshot.getKeys().size() < 50);
+            assertDoesNotThrow(snapshot::toResponse);
+        }
+    }
+
+    @Test
+    void verifyDetectsChecksumTampering() throws IOException {
+        byte[] data = BinarySnapshotWriter.encode(TestCatalog.generate(10, 2));
+        ByteBuffer header = header(data);
+        header.putInt(16, header.getInt(16) + 1);
+
+        BinarySnapshot snapshot = BinarySnapshot.wrap(data, false);
+        assertThrows(IOException.class, snapshot::verify);
+    }
+
+    private static ByteBuffer header(byte[] data) {
+        return ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.steyon.translateMCPlugin.snapshot;
+
+import dev.steyon.translateMCPlugin.testing.TestCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotFilesTest {
+
+    @Test
+    void emptyOrMissingDirectoryHasNoSnapshots(@TempDir Path directory) throws IOException {
+        assertTrue(new SnapshotFiles(directory).list().isEmpty());
+        assertTrue(new SnapshotFiles(directory.resolve("missing")).list().isEmpty());
+        assertEquals(directory.resolve("translations-1.snapshot"), new SnapshotFiles(directory).next());
+    }
+
+    @Test
+    void snapshotsAreListedNewestFirst(@TempDir Path directory) throws IOException {
+        for (String name : List.of("translations-2.snapshot", "translations-10.snapshot", "translations-9.snapshot",
+                "translations-3.snapshot.tmp", "translations-x.snapshot", "config.yml")) {
+            Files.createFile(directory.resolve(name));
+        }
+        SnapshotFiles files = new SnapshotFiles(directory);
+
+        assertEquals(List.of(directory.resolve("translations-10.snapshot"), directory.resolve("translations-9.snapshot"),
+            directory.resolve("translations-2.snapshot")), files.list());
+        assertEquals(directory.resolve("translations-11.snapshot"), files.next());
+    }
+
+    @Test
+    void deleteAllExceptKeepsOnlyTheGivenSnapshot(@TempDir Path directory) throws IOException {
+        SnapshotFiles files = new SnapshotFiles(directory);
+        for (int i = 0; i < 3; i++) {
+            Files.createFile(files.next());
+        }
+        Files.createFile(directory.resolve("config.yml"));
+
+        files.deleteAllExcept(directory.resolve("translations-2.snapshot"));
+
+        assertEquals(List.of(directory.resolve("translations-2.snapshot")), files.list());
+        assertTrue(Files.exists(directory.resolve("config.yml")));
+    }
+
+    @Test
+    void writtenSnapshotsCanBeReopenedFromTheNewestFile(@TempDir Path directory) throws IOException {
+        SnapshotFiles files = new SnapshotFiles(directory);
+        BinarySnapshotWriter.write(files.next(), TestCatalog.generate(10, 1));
+        BinarySnapshot first = BinarySnapshot.open(files.list().get(0), false);
+        BinarySnapshotWriter.write(files.next(), TestCatalog.generate(20, 1));
+
+        // The first file is still mapped while the second one is written next to it
+        assertEquals(10, first.getKeyCount());
+        assertEquals(20, BinarySnapshot.open(files.list().get(0), false).getKeyCount());
+        assertEquals(2, files.list().size());
+    }
+}
@@ -0,0 +1,118 @@
+package dev.steyon.translateMCPlugin.sync.protocol;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageSyncCodecTest {
+    private static final UUID PLAYER = UUID.fromString("0f6c1b8e-3a2d-4c5e-9f10-1234567890ab");
+
+    @Test
+    void setRoundTrips() {
+        LanguageSyncMessage decoded = roundTrip(LanguageSyncMessage.set(PLAYER, "de"));
+
+        assertEquals(LanguageSyncMessage.Type.SET, decoded.getType());
+        assertEquals(PLAYER, decoded.getPlayerUUID());
+        assertEquals("de", decoded.getLanguageCode());
+    }
+
+    @Test
+    void lookupRoundTripsWithoutCode() {
+        byte[] data = LanguageSyncCodec.encode(LanguageSyncMessage.lookup(PLAYER));
+        LanguageSyncMessage decoded = LanguageSyncCodec.decode(data);
+
+        assertEquals(17, data.length);
+        assertEquals(LanguageSyncMessage.Type.LOOKUP, decoded.getType());
+        assertEquals(PLAYER, decoded.getPlayerUUID());
+        assertNull(decoded.getLanguageCode());
+    }
+
+    @Test
+    void resultRoundTripsWithAndWithoutCode() {
+        assertEquals("pt_br", roundTrip(LanguageSyncMessage.result(PLAYER, "pt_br")).getLanguageCode());
+
+        LanguageSyncMessage unknown = roundTrip(LanguageSyncMessage.result(PLAYER, null));
+        assertEquals(LanguageSyncMessage.Type.RESULT, unknown.getType());
+        assertNull(unknown.getLanguageCode());
+    }
+
+    @Test
+    void codesAreUtf8() {
+        String code = "日本語";
+        byte[] data = LanguageSyncCodec.encode(LanguageSyncMessage.set(PLAYER, code));
+
+        assertEquals(1 + 16 + 1 + 9, data.length);
+        assertEquals(code, LanguageSyncCodec.decode(data).getLanguageCode());
+    }
+
+    @Test
+    void longestCodeRoundTrips() {
+        String code = "a".repeat(255);
+        assertEquals(code, roundTrip(LanguageSyncMessage.set(PLAYER, code)).getLanguageCode());
+    }
+
+    @Test
+    void encodeRejectsInvalidCodes() {
+        assertThrows(IllegalArgumentException.class,
+            () -> LanguageSyncCodec.encode(LanguageSyncMessage.set(PLAYER, "")));
+        assertThrows(IllegalArgumentException.class,
+            () -> LanguageSyncCodec.encode(LanguageSyncMessage.set(PLAYER, "a".repeat(256))));
+    }
+
+    @Test
+    void decodeRejectsMissingOrShortData() {
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(new byte[16]));
+    }
+
+    @Test
+    void decodeRejectsUnknownTypes() {
+        byte[] data = LanguageSyncCodec.encode(LanguageSyncMessage.lookup(PLAYER));
+        for (byte type : new byte[]{0, 4, -1}) {
+            data[0] = type;
+            assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(data), "type " + type);
+        }
+    }
+
+    @Test
+    void decodeRejectsMissingCode() {
+        byte[] data = LanguageSyncCodec.encode(LanguageSyncMessage.set(PLAYER, "de"));
+        byte[] withoutLength = Arrays.copyOf(data, 17);
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(withoutLength));
+    }
+
+    @Test
+    void decodeRejectsLengthMismatch() {
+        byte[] data = LanguageSyncCodec.encode(LanguageSyncMessage.set(PLAYER, "de"));
+
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(truncated));
+
+        byte[] trailing = Arrays.copyOf(data, data.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(trailing));
+
+        byte[] overstated = data.clone();
+        overstated[17] = (byte) 200;
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(overstated));
+    }
+
+    @Test
+    void decodeRejectsSetWithoutCode() {
+        byte[] data = ByteBuffer.allocate(18)
+            .put(LanguageSyncMessage.Type.SET.getId())
+            .putLong(PLAYER.getMostSignificantBits())
+            .putLong(PLAYER.getLeastSignificantBits())
+            .put((byte) 0)
+            .array();
+        assertThrows(IllegalArgumentException.class, () -> LanguageSyncCodec.decode(data));
+    }
+
+    private static LanguageSyncMessage roundTrip(LanguageSyncMessage message) {
+        return LanguageSyncCodec.decode(LanguageSyncCodec.encode(message));
+    }
+}
@@ -0,0 +1,148 @@
+package dev.steyon.translateMCPlugin.sync.protocol;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageSyncHubTest {
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    private LanguageSyncHub hub;
+    private FakeServer lobby;
+    private FakeServer survival;
+    private FakeServer creative;
+    private List<FakeServer> servers;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LanguageSyncHub();
+        lobby = new FakeServer("lobby");
+        survival = new FakeServer("survival");
+        creative = new FakeServer("creative");
+        servers = List.of(lobby, survival, creative);
+    }
+
+    @Test
+    void setIsBroadcastToEveryOtherServer() {
+        lobby.publish(LanguageSyncMessage.set(PLAYER, "de"));
+
+        assertEquals("de", hub.getPlayerLanguage(PLAYER));
+        assertTrue(lobby.received.isEmpty());
+        assertEquals(1, survival.received.size());
+        assertEquals(1, creative.received.size());
+
+        LanguageSyncMessage forwarded = survival.received.get(0);
+        assertEquals(LanguageSyncMessage.Type.SET, forwarded.getType());
+        assertEquals(PLAYER, forwarded.getPlayerUUID());
+        assertEquals("de", forwarded.getLanguageCode());
+    }
+
+    @Test
+    void unchangedSetIsNotBroadcastAgain() {
+        lobby.publish(LanguageSyncMessage.set(PLAYER, "de"));
+        survival.publish(LanguageSyncMessage.set(PLAYER, "de"));
+
+        assertEquals(1, survival.received.size());
+        assertEquals(1, creative.received.size());
+        assertTrue(lobby.received.isEmpty());
+    }
+
+    @Test
+    void laterSetReplacesTheLanguage() {
+        lobby.publish(LanguageSyncMessage.set(PLAYER, "de"));
+        survival.publish(LanguageSyncMessage.set(PLAYER, "fr"));
+
+        assertEquals("fr", hub.getPlayerLanguage(PLAYER));
+        assertEquals(1, hub.size());
+        assertEquals("fr", lobby.received.get(0).getLanguageCode());
+        assertEquals("fr", creative.received.get(1).getLanguageCode());
+    }
+
+    @Test
+    void lookupIsAnsweredOnlyToTheAskingServer() {
+        lobby.publish(LanguageSyncMessage.set(PLAYER, "es"));
+        survival.received.clear();
+        creative.received.clear();
+
+        survival.publish(LanguageSyncMessage.lookup(PLAYER));
+
+        assertEquals(1, survival.received.size());
+        assertTrue(creative.received.isEmpty());
+        assertTrue(lobby.received.isEmpty());
+
+        LanguageSyncMessage result = survival.received.get(0);
+        assertEquals(LanguageSyncMessage.Type.RESULT, result.getType());
+        assertEquals(PLAYER, result.getPlayerUUID());
+        assertEquals("es", result.getLanguageCode());
+    }
+
+    @Test
+    void lookupForAnUnknownPlayerAnswersWithoutCode() {
+        creative.publish(LanguageSyncMessage.lookup(PLAYER));
+
+        LanguageSyncMessage result = creative.received.get(0);
+        assertEquals(LanguageSyncMessage.Type.RESULT, result.getType());
+        assertNull(result.getLanguageCode());
+        assertNull(hub.getPlayerLanguage(PLAYER));
+    }
+
+    @Test
+    void resultsFromBackendsAreIgnored() {
+        lobby.publish(LanguageSyncMessage.result(PLAYER, "de"));
+
+        assertNull(hub.getPlayerLanguage(PLAYER));
+        assertTrue(survival.received.isEmpty());
+        assertTrue(creative.received.isEmpty());
+    }
+
+    @Test
+    void malformedMessagesAreRejectedWithoutSideEffects() {
+        assertThrows(IllegalArgumentException.class, () -> hub.handle(new byte[]{1, 2, 3}, lobby, servers));
+
+        assertEquals(0, hub.size());
+        assertTrue(survival.received.isEmpty());
+        assertTrue(lobby.received.isEmpty());
+    }
+
+    @Test
+    void playersAreTrackedIndependently() {
+        UUID other = UUID.randomUUID();
+        lobby.publish(LanguageSyncMessage.set(PLAYER, "de"));
+        survival.publish(LanguageSyncMessage.set(other, "fr"));
+
+        assertEquals(2, hub.size());
+        assertEquals("de", hub.getPlayerLanguage(PLAYER));
+        assertEquals("fr", hub.getPlayerLanguage(other));
+    }
+
+    /**
+     * In-process stand-in for a backend connected through the plugin messaging channel
+     */
+    private final class FakeServer implements SyncTarget {
+        private final String name;
+        private final List<LanguageSyncMessage> received = new ArrayList<>();
+
+        FakeServer(String name) {
+            this.name = name;
+        }
+
+        void publish(LanguageSyncMessage message) {
+            hub.handle(LanguageSyncCodec.encode(message), this, servers);
+        }
+
+        @Override
+        public void send(byte[] data) {
+            received.add(LanguageSyncCodec.decode(data));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
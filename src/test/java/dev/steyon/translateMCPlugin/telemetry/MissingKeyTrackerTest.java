@@ -0,0 +1,117 @@
+package dev.steyon.translateMCPlugin.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MissingKeyTrackerTest {
+
+    @Test
+    void topMissesAreSortedByCount() {
+        MissingKeyTracker tracker = new MissingKeyTracker(10);
+        record(tracker, "shop.title", "de", MissingKeyTracker.Kind.MISSING, 2);
+        record(tracker, "menu.back", "fr", MissingKeyTracker.Kind.FALLBACK, 5);
+        record(tracker, "quest.name", "de", MissingKeyTracker.Kind.MISSING, 1);
+
+        List<MissingKeyTracker.MissingKey> misses = tracker.getTopMisses();
+        assertEquals(3, misses.size());
+        assertEquals("menu.back", misses.get(0).getKey());
+        assertEquals(5, misses.get(0).getCount());
+        assertEquals(MissingKeyTracker.Kind.FALLBACK, misses.get(0).getKind());
+        assertEquals("shop.title", misses.get(1).getKey());
+        assertEquals("quest.name", misses.get(2).getKey());
+        assertEquals(3, tracker.getTotalMisses());
+        assertEquals(5, tracker.getTotalFallbacks());
+    }
+
+    @Test
+    void onlyTheMostFrequentMissesAreKept() {
+        MissingKeyTracker tracker = new MissingKeyTracker(2);
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 3);
+        record(tracker, "b", "de", MissingKeyTracker.Kind.MISSING, 1);
+        record(tracker, "c", "de", MissingKeyTracker.Kind.MISSING, 2);
+
+        List<MissingKeyTracker.MissingKey> misses = tracker.getTopMisses();
+        assertEquals(2, misses.size());
+        assertEquals("a", misses.get(0).getKey());
+        assertEquals("c", misses.get(1).getKey());
+    }
+
+    @Test
+    void markReportedResetsUnreportedCounts() {
+        MissingKeyTracker tracker = new MissingKeyTracker(10);
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 3);
+        tracker.markReported(tracker.getTopMisses());
+        assertEquals(0, tracker.getTopMisses().get(0).getUnreported());
+
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 2);
+        assertEquals(5, tracker.getTopMisses().get(0).getCount());
+        assertEquals(2, tracker.getTopMisses().get(0).getUnreported());
+    }
+
+    @Test
+    void reinsertedEntriesDoNotReportMissesAgain() {
+        MissingKeyTracker tracker = new MissingKeyTracker(1);
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 3);
+        tracker.markReported(tracker.getTopMisses());
+
+        // "b" overtakes and evicts "a"
+        record(tracker, "b", "de", MissingKeyTracker.Kind.MISSING, 5);
+        assertEquals("b", tracker.getTopMisses().get(0).getKey());
+        tracker.markReported(tracker.getTopMisses());
+
+        // "a" comes back with 6 misses in total, 3 of which were already reported
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 3);
+        MissingKeyTracker.MissingKey miss = tracker.getTopMisses().get(0);
+        assertEquals("a", miss.getKey());
+        assertEquals(6, miss.getCount());
+        assertEquals(3, miss.getUnreported());
+    }
+
+    @Test
+    void missesRecordedWhileSendingStayUnreported() {
+        MissingKeyTracker tracker = new MissingKeyTracker(10);
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 3);
+        record(tracker, "b", "de", MissingKeyTracker.Kind.FALLBACK, 1);
+        List<MissingKeyTracker.MissingKey> batch = tracker.getTopMisses();
+
+        // Recorded after the batch was built, while it is being sent
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 2);
+        record(tracker, "c", "fr", MissingKeyTracker.Kind.MISSING, 1);
+        tracker.markReported(batch);
+
+        for (MissingKeyTracker.MissingKey miss : tracker.getTopMisses()) {
+            switch (miss.getKey()) {
+                case "a" -> {
+                    assertEquals(5, miss.getCount());
+                    assertEquals(2, miss.getUnreported());
+                }
+                case "b" -> assertEquals(0, miss.getUnreported());
+                case "c" -> assertEquals(1, miss.getUnreported());
+                default -> fail(miss.getKey());
+            }
+        }
+    }
+
+    @Test
+    void clearForgetsEverything() {
+        MissingKeyTracker tracker = new MissingKeyTracker(10);
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 3);
+        tracker.markReported(tracker.getTopMisses());
+        tracker.clear();
+
+        assertTrue(tracker.getTopMisses().isEmpty());
+        assertEquals(0, tracker.getTotalMisses());
+
+        record(tracker, "a", "de", MissingKeyTracker.Kind.MISSING, 1);
+        assertEquals(1, tracker.getTopMisses().get(0).getUnreported());
+    }
+
+    private static void record(MissingKeyTracker tracker, String key, String language, MissingKeyTracker.Kind kind, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(key, language, kind);
+        }
+    }
+}
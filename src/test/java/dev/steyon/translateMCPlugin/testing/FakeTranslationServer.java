@@ -0,0 +1,169 @@
+package dev.steyon.translateMCPlugin.testing;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for the TranslateMC API.
+ *
+ * Serves a catalog on /keys, including the ?language= and ?prefix= shards, with configurable
+ * latency and failure rate. Individual shards can also be made to fail.
+ */
+public final class FakeTranslationServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+    private final Set<String> failingQueries = ConcurrentHashMap.newKeySet();
+    private final Random random = new Random(42);
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    private volatile TranslationAPI.APIResponse catalog;
+    private volatile long latencyMillis;
+    private volatile double failureRate;
+
+    public FakeTranslationServer(TranslationAPI.APIResponse catalog) throws IOException {
+        this.catalog = catalog;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/keys", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Gets the base URL to configure as api.url
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Replaces the served catalog
+     */
+    public FakeTranslationServer setCatalog(TranslationAPI.APIResponse catalog) {
+        this.catalog = catalog;
+        bodies.clear();
+        return this;
+    }
+
+    /**
+     * Delays every response by the given time
+     */
+    public FakeTranslationServer setLatency(long millis) {
+        this.latencyMillis = millis;
+        return this;
+    }
+
+    /**
+     * Answers this share of requests with status 500, from 0 to 1
+     */
+    public FakeTranslationServer setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+        return this;
+    }
+
+    /**
+     * Always fails requests with the given query, e.g. "language=de"
+     */
+    public FakeTranslationServer failQuery(String query) {
+        failingQueries.add(query);
+        return this;
+    }
+
+    /**
+     * Gets the number of requests received
+     */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Gets the highest number of requests that were handled at the same time
+     */
+    public int getMaxConcurrentRequests() {
+        return maxActive.get();
+    }
+
+    /**
+     * Gets the size of the full /keys response in bytes
+     */
+    public int getPayloadSize() {
+        return body(null).length;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            String query = exchange.getRequestURI().getRawQuery();
+            boolean fail;
+            synchronized (random) {
+                fail = random.nextDouble() < failureRate;
+            }
+            if (fail || (query != null && failingQueries.contains(query))) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            byte[] body = body(query);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            active.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private byte[] body(String query) {
+        return bodies.computeIfAbsent(query != null ? query : "", q -> {
+            String language = null;
+            String prefix = null;
+            for (String parameter : q.split("&")) {
+                int separator = parameter.indexOf('=');
+                if (separator < 0) {
+                    continue;
+                }
+                String value = URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+                switch (parameter.substring(0, separator)) {
+                    case "language" -> language = value;
+                    case "prefix" -> prefix = value;
+                    default -> {
+                    }
+                }
+            }
+            return TestCatalog.toJson(catalog, language, prefix).getBytes(StandardCharsets.UTF_8);
+        });
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,115 @@
+package dev.steyon.translateMCPlugin.testing;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import dev.steyon.translateMCPlugin.api.TranslationAPI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates translation catalogs of a given size, as API responses and as /keys JSON
+ */
+public final class TestCatalog {
+    private static final String[] LANGUAGE_CODES = {"en", "de", "fr", "es", "it", "nl", "pl", "pt", "ru", "tr", "ja", "zh"};
+
+    /**
+     * Number of key namespaces, e.g. "ns0.", "ns1.", ...
+     */
+    public static final int NAMESPACES = 8;
+
+    private TestCatalog() {
+    }
+
+    /**
+     * Generates a catalog with the given number of keys, each translated into every language.
+     * About a third of the values contain an argument and every tenth value repeats another one.
+     */
+    public static TranslationAPI.APIResponse generate(int keyCount, int languageCount) {
+        List<TranslationAPI.Language> languages = new ArrayList<>();
+        for (int i = 0; i < languageCount; i++) {
+            String code = i < LANGUAGE_CODES.length ? LANGUAGE_CODES[i] : "l" + i;
+            languages.add(new TranslationAPI.Language(code, "Language " + code, i == 0, null));
+        }
+
+        Map<String, Map<String, TranslationAPI.Translation>> translations = new LinkedHashMap<>();
+        for (int k = 0; k < keyCount; k++) {
+            Map<String, TranslationAPI.Translation> values = new HashMap<>();
+            for (TranslationAPI.Language language : languages) {
+                String value;
+                if (k % 10 == 9) {
+                    value = "Back [" + language.getCode() + "]";
+                } else if (k % 3 == 0) {
+                    value = "Item " + k + " costs {0} coins [" + language.getCode() + "]";
+                } else {
+                    value = "Text number " + k + " [" + language.getCode() + "]";
+                }
+                values.put(language.getCode(), new TranslationAPI.Translation(value, "approved"));
+            }
+            translations.put(key(k), values);
+        }
+        return new TranslationAPI.APIResponse(translations, languages);
+    }
+
+    /**
+     * Gets the key generated for an index
+     */
+    public static String key(int index) {
+        return "ns" + (index % NAMESPACES) + ".item." + index;
+    }
+
+    /**
+     * Serializes a catalog in the format of the /keys endpoint
+     */
+    public static String toJson(TranslationAPI.APIResponse response) {
+        return toJson(response, null, null);
+    }
+
+    /**
+     * Serializes the part of a catalog that a shard request would return
+     * @param language only include translations into this language, or null for all
+     * @param prefix only include keys starting with this prefix, or null for all
+     */
+    public static String toJson(TranslationAPI.APIResponse response, String language, String prefix) {
+        JsonArray keys = new JsonArray();
+        for (Map.Entry<String, Map<String, TranslationAPI.Translation>> entry : response.getTranslations().entrySet()) {
+            if (prefix != null && !entry.getKey().startsWith(prefix)) {
+                continue;
+            }
+
+            JsonObject translations = new JsonObject();
+            for (Map.Entry<String, TranslationAPI.Translation> translation : entry.getValue().entrySet()) {
+                if (language != null && !language.equals(translation.getKey())) {
+                    continue;
+                }
+                JsonObject value = new JsonObject();
+                value.addProperty("value", translation.getValue().getValue());
+                value.addProperty("status", translation.getValue().getStatus());
+                translations.add(translation.getKey(), value);
+            }
+
+            JsonObject key = new JsonObject();
+            key.addProperty("key", entry.getKey());
+            key.add("translations", translations);
+            keys.add(key);
+        }
+
+        JsonArray languages = new JsonArray();
+        for (TranslationAPI.Language lang : response.getLanguages()) {
+            JsonObject object = new JsonObject();
+            object.addProperty("code", lang.getCode());
+            object.addProperty("name", lang.getName());
+            object.addProperty("is_source", lang.isSource() ? 1 : 0);
+            object.addProperty("minecraft_head", lang.getMinecraftHead());
+            languages.add(object);
+        }
+
+        JsonObject root = new JsonObject();
+        root.add("keys", keys);
+        root.add("languages", languages);
+        return root.toString();
+    }
+}